@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * A single specification evaluating all conditions of a {@link SpecificationBuilder} in one pass.
+ *
+ * <p>Consecutive AND-connected predicates are combined with one {@link CriteriaBuilder#and}
+ * call, and the precedence is the same as the left-to-right fold of {@link Specification#and} and
+ * {@link Specification#or}: {@code a AND b OR c AND d} is {@code ((a AND b) OR c) AND d}.
+ *
+ * <p>The {@link DistinctStrategy} is applied once all parts have added their joins, so a
+ * collection joined by a later or an inner part is taken into account. The strategy of the
+ * outermost specification is applied last and wins over those of its inner specifications.
+ *
+ * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
+ */
+final class AggregateSpecification<T> implements Specification<T> {
+
+  @Serial private static final long serialVersionUID = 3817240936461127398L;
+
+  private static final Specification<?> NONE = (root, query, builder) -> builder.disjunction();
+
+  private final List<Part<T>> parts;
+  @Getter(AccessLevel.PACKAGE)
+  private final boolean isUnsatisfiable;
+
+  @Getter(AccessLevel.PACKAGE)
+  private final @Nullable FetchGraph fetchGraph;
+
+  private final DistinctStrategy distinctStrategy;
+
+  AggregateSpecification(
+      final List<Part<T>> parts,
+      final @Nullable FetchGraph fetchGraph,
+      final DistinctStrategy distinctStrategy) {
+    this.parts = List.copyOf(parts);
+    this.isUnsatisfiable = isUnsatisfiable(this.parts);
+    this.fetchGraph = fetchGraph;
+    this.distinctStrategy = distinctStrategy;
+  }
+
+  /** A specification matching no rows. */
+  @SuppressWarnings("unchecked")
+  static <T> Specification<T> none() {
+    return (Specification<T>) NONE;
+  }
+
+  @Override
+  public @Nullable Predicate toPredicate(
+      @Nullable final Root<T> root,
+      @Nullable final CriteriaQuery<?> query,
+      @Nullable final CriteriaBuilder criteriaBuilder) {
+    final List<Predicate> conjunction = new ArrayList<>(parts.size());
+    for (final Part<T> part : parts) {
+      final Predicate predicate = part.spec().toPredicate(root, query, criteriaBuilder);
+      if (predicate == null) continue;
+      if (conjunction.isEmpty()) {
+        conjunction.add(predicate);
+      } else {
+        part.operator().append(conjunction, predicate, criteriaBuilder);
+      }
+    }
+    if (query != null && CompositeSpecification.isProjection(root, query)) {
+      distinctStrategy.applyProjection(query, root);
+    } else if (query != null) {
+      distinctStrategy.apply(query, root);
+    }
+    return conjunction.isEmpty() ? null : LogicalOperator.and(conjunction, criteriaBuilder);
+  }
+
+  private static <T> boolean isUnsatisfiable(final List<Part<T>> parts) {
+    boolean isUnsatisfiable = false;
+    for (int i = 0; i < parts.size(); i++) {
+      final boolean isNone = parts.get(i).isUnsatisfiable();
+      if (i == 0) {
+        isUnsatisfiable = isNone;
+      } else if (parts.get(i).operator() == LogicalOperator.AND) {
+        isUnsatisfiable = isUnsatisfiable || isNone;
+      } else {
+        isUnsatisfiable = isUnsatisfiable && isNone;
+      }
+    }
+    return isUnsatisfiable;
+  }
+
+  /** A specification with the operator connecting it to the preceding ones. */
+  record Part<T>(Specification<T> spec, LogicalOperator operator) implements Serializable {
+
+    private boolean isUnsatisfiable() {
+      return spec == NONE
+          || spec instanceof AggregateSpecification<T> aggregate && aggregate.isUnsatisfiable();
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.IdentifiableType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Shared cache of the attributes of managed types built from the JPA {@link Metamodel}.
+ *
+ * <p>Attributes are classified once per managed class, inherited attributes of mapped superclasses
+ * included, so resolving a column costs only map lookups after warm-up.
+ *
+ * <p>The cache is keyed by the managed type itself rather than its Java class, so persistence
+ * units mapping the same class differently do not share attributes. The managed types are
+ * referenced weakly and the cached attributes hold no metamodel objects, so the attributes of a
+ * closed entity manager factory are reclaimed with its metamodel.
+ */
+@UtilityClass
+class AttributeCache {
+
+  private static final Map<ManagedType<?>, Map<String, AttributeInfo>> CACHE =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  /**
+   * Returns the attribute of the managed type.
+   *
+   * @param type managed type declaring or inheriting the attribute.
+   * @param name attribute name.
+   * @throws IllegalArgumentException if the managed type has no attribute with that name.
+   */
+  static AttributeInfo get(final ManagedType<?> type, final String name) {
+    final AttributeInfo attribute = attributes(type).get(name);
+    if (attribute == null) {
+      throw new IllegalArgumentException(
+          "Unable to locate attribute [" + name + "] on [" + type.getJavaType().getName() + "]");
+    }
+    return attribute;
+  }
+
+  /**
+   * Returns the name of the id attribute of the entity type.
+   *
+   * @param type entity type or mapped superclass declaring or inheriting a single id attribute.
+   */
+  static String idName(final IdentifiableType<?> type) {
+    return type.getId(type.getIdType().getJavaType()).getName();
+  }
+
+  /**
+   * Classifies the attributes of all managed types of the metamodel.
+   *
+   * @param metamodel metamodel of the persistence unit.
+   */
+  static void warmUp(final Metamodel metamodel) {
+    for (final ManagedType<?> type : metamodel.getManagedTypes()) {
+      attributes(type);
+    }
+  }
+
+  private static Map<String, AttributeInfo> attributes(final ManagedType<?> type) {
+    return CACHE.computeIfAbsent(type, AttributeCache::classify);
+  }
+
+  private static Map<String, AttributeInfo> classify(final ManagedType<?> type) {
+    final Map<String, AttributeInfo> attributes = new HashMap<>();
+    for (final Attribute<?, ?> attribute : type.getAttributes()) {
+      attributes.put(attribute.getName(), AttributeInfo.of(attribute));
+    }
+    for (final AttributeInfo attribute : attributes.values()) {
+      for (final ShadowAttribute shadow : attribute.shadows()) {
+        if (!attributes.containsKey(shadow.value())) {
+          throw new IllegalArgumentException(
+              "Unable to locate shadow attribute ["
+                  + shadow.value()
+                  + "] of ["
+                  + attribute.name()
+                  + "] on ["
+                  + type.getJavaType().getName()
+                  + "]");
+        }
+      }
+    }
+    return Map.copyOf(attributes);
+  }
+}
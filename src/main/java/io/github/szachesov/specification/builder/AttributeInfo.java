@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.PluralAttribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import java.lang.reflect.AnnotatedElement;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Resolved attribute of a managed type (entity, mapped superclass or embeddable).
+ *
+ * @param name attribute name.
+ * @param kind attribute classification.
+ * @param collection whether the attribute is a collection (to-many or element collection).
+ * @param shadows normalized copies of the attribute, reversed ones first.
+ */
+record AttributeInfo(
+    String name,
+    AttributeInfo.Kind kind,
+    boolean collection,
+    List<ShadowAttribute> shadows) {
+
+  static AttributeInfo of(final Attribute<?, ?> attribute) {
+    return new AttributeInfo(
+        attribute.getName(),
+        Kind.of(attribute.getPersistentAttributeType()),
+        attribute.isCollection(),
+        shadows(attribute));
+  }
+
+  private static List<ShadowAttribute> shadows(final Attribute<?, ?> attribute) {
+    if (!(attribute.getJavaMember() instanceof final AnnotatedElement member)) return List.of();
+
+    return Arrays.stream(member.getAnnotationsByType(ShadowAttribute.class))
+        .sorted(Comparator.comparing(ShadowAttribute::reversed).reversed())
+        .toList();
+  }
+
+  /**
+   * Returns the managed type the attribute refers to, {@code null} for basic values. Not kept in
+   * the record, so the cached attributes do not pin the metamodel.
+   *
+   * @param attribute attribute of a managed type.
+   */
+  static @Nullable ManagedType<?> target(final Attribute<?, ?> attribute) {
+    final Type<?> type;
+    if (attribute instanceof PluralAttribute<?, ?, ?> plural) {
+      type = plural.getElementType();
+    } else if (attribute instanceof SingularAttribute<?, ?> singular) {
+      type = singular.getType();
+    } else {
+      return null;
+    }
+    return type instanceof ManagedType<?> managed ? managed : null;
+  }
+
+  /** Classification of attributes. */
+  enum Kind {
+    BASIC,
+    EMBEDDABLE,
+    ASSOCIATION,
+    ELEMENT_COLLECTION;
+
+    static Kind of(final PersistentAttributeType type) {
+      return switch (type) {
+        case BASIC -> BASIC;
+        case EMBEDDED -> EMBEDDABLE;
+        case ELEMENT_COLLECTION -> ELEMENT_COLLECTION;
+        case ONE_TO_ONE, MANY_TO_ONE, ONE_TO_MANY, MANY_TO_MANY -> ASSOCIATION;
+      };
+    }
+  }
+}
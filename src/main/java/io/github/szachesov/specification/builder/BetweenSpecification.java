@@ -23,6 +23,7 @@ import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import java.io.Serial;
+import lombok.EqualsAndHashCode;
 
 /**
  * Predicate of between (BETWEEN [SYMMETRIC]).
@@ -30,6 +31,7 @@ import java.io.Serial;
  * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
  * @param <P> target predicate type, maybe {@link Join}
  */
+@EqualsAndHashCode(callSuper = true)
 public class BetweenSpecification<T, P extends Comparable<? super P>>
     extends ComparisonSpecification<T, P> {
 
@@ -43,4 +45,10 @@ public class BetweenSpecification<T, P extends Comparable<? super P>>
   Predicate toPredicate(final CriteriaBuilder builder, final Path<P> path) {
     return builder.between(path, range.min(), range.max());
   }
+
+  @Override
+  void constrain(final SpecificationNormalizer.Constraint<T> constraint) {
+    constraint.lower(range.min(), true);
+    constraint.upper(range.max(), true);
+  }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import java.util.Locale;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+/**
+ * Enumeration of strategies for matching strings case-insensitively. The strategy should match the
+ * index on the column, otherwise the index is not used.
+ */
+public enum CaseFolding {
+  /**
+   * Both sides are converted to upper case, for an {@code upper(column)} functional index.
+   *
+   * <p>Example: {@code ... WHERE UPPER(column) = 'WILL' ...}
+   */
+  UPPER {
+    @Override
+    Expression<String> fold(final Expression<String> expression, final CriteriaBuilder builder) {
+      return builder.upper(expression);
+    }
+
+    @Override
+    String fold(final String value) {
+      return value.toUpperCase(Locale.ROOT);
+    }
+  },
+  /**
+   * Both sides are converted to lower case, for a {@code lower(column)} functional index.
+   *
+   * <p>Example: {@code ... WHERE LOWER(column) = 'will' ...}
+   */
+  LOWER {
+    @Override
+    Expression<String> fold(final Expression<String> expression, final CriteriaBuilder builder) {
+      return builder.lower(expression);
+    }
+
+    @Override
+    String fold(final String value) {
+      return value.toLowerCase(Locale.ROOT);
+    }
+  },
+  /**
+   * The case-insensitive {@code ILIKE} of the dialect, for a trigram index. Hibernate emulates it
+   * with {@code lower(...)} on both sides for dialects without {@code ILIKE}.
+   *
+   * <p>Example: {@code ... WHERE column ILIKE 'will' ...}
+   */
+  ILIKE {
+    @Override
+    Predicate like(
+        final Expression<String> expression, final String pattern, final CriteriaBuilder builder) {
+      return ((HibernateCriteriaBuilder) builder)
+          .ilike(expression, pattern, LikeSpecification.ESCAPE_CHAR);
+    }
+
+    @Override
+    Predicate equal(
+        final Expression<String> expression, final String value, final CriteriaBuilder builder) {
+      return like(expression, LikeSpecification.escape(value), builder);
+    }
+  },
+  /**
+   * No conversion: the match is case-sensitive, the data is already normalized, or the column type
+   * or collation is case-insensitive itself ({@code citext}, a nondeterministic collation).
+   *
+   * <p>Example: {@code ... WHERE column = 'Will' ...}
+   */
+  NONE;
+
+  Expression<String> fold(final Expression<String> expression, final CriteriaBuilder builder) {
+    return expression;
+  }
+
+  String fold(final String value) {
+    return value;
+  }
+
+  /** {@code LIKE} with a pattern escaped by {@link LikeSpecification#ESCAPE_CHAR}. */
+  Predicate like(
+      final Expression<String> expression, final String pattern, final CriteriaBuilder builder) {
+    return builder.like(fold(expression, builder), fold(pattern), LikeSpecification.ESCAPE_CHAR);
+  }
+
+  Predicate equal(
+      final Expression<String> expression, final String value, final CriteriaBuilder builder) {
+    return builder.equal(fold(expression, builder), fold(value));
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.metamodel.ManagedType;
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Immutable path of columns from the root of a query to the target attribute, for example {@code
+ * posts.tags}.
+ *
+ * <p>Paths are interned: a path is parsed once and the same instance is shared by every
+ * specification that uses it. The pool references paths weakly, so paths of dynamic filters that
+ * no specification holds any more are reclaimed. The attributes a path resolves to are cached per
+ * managed root type, referenced weakly so the metamodel of a closed entity manager factory is not
+ * pinned.
+ */
+@EqualsAndHashCode(of = "value")
+public final class ColumnPath implements Serializable {
+
+  @Serial private static final long serialVersionUID = 2471926460254918303L;
+
+  private static final char SEPARATOR = '.';
+  private static final Map<String, WeakReference<ColumnPath>> PATHS = new WeakHashMap<>();
+  private static final Lock LOCK = new ReentrantLock();
+
+  private final String value;
+
+  /** Join column names are listed before the target one. */
+  @Getter private final List<String> columns;
+
+  private final transient Map<ManagedType<?>, List<AttributeInfo>> attributes =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  private ColumnPath(final String value, final List<String> columns) {
+    this.value = value;
+    this.columns = columns;
+  }
+
+  /**
+   * Returns the path of the dotted column name.
+   *
+   * @param column column name, join column names are separated by dots.
+   */
+  public static ColumnPath of(final String column) {
+    LOCK.lock();
+    try {
+      final ColumnPath path = interned(column);
+      return path == null ? intern(new ColumnPath(column, split(column))) : path;
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  /**
+   * Returns the path of the column names.
+   *
+   * @param columns join column names are listed before the target one.
+   */
+  public static ColumnPath of(final List<String> columns) {
+    final String value =
+        columns.size() == 1 ? columns.get(0) : String.join(String.valueOf(SEPARATOR), columns);
+    LOCK.lock();
+    try {
+      final ColumnPath path = interned(value);
+      return path == null ? intern(new ColumnPath(value, List.copyOf(columns))) : path;
+    } finally {
+      LOCK.unlock();
+    }
+  }
+
+  private static @Nullable ColumnPath interned(final String value) {
+    final WeakReference<ColumnPath> reference = PATHS.get(value);
+    return reference == null ? null : reference.get();
+  }
+
+  /**
+   * The key is the value of the path, so the entry lives as long as the path is referenced. A
+   * cleared entry is removed first, since {@link WeakHashMap#put} would keep its stale key.
+   */
+  private static ColumnPath intern(final ColumnPath path) {
+    PATHS.remove(path.value);
+    PATHS.put(path.value, new WeakReference<>(path));
+    return path;
+  }
+
+  private static List<String> split(final String value) {
+    final List<String> columns = new ArrayList<>();
+    int start = 0;
+    int end = value.indexOf(SEPARATOR);
+    while (end >= 0) {
+      columns.add(value.substring(start, end));
+      start = end + 1;
+      end = value.indexOf(SEPARATOR, start);
+    }
+    columns.add(value.substring(start));
+    return List.copyOf(columns);
+  }
+
+  /**
+   * Resolves the attributes of the path, starting from the root type. Resolution stops at the
+   * first attribute that does not refer to a managed type.
+   *
+   * @param root managed type of the query root.
+   * @throws IllegalArgumentException if a column does not exist.
+   */
+  List<AttributeInfo> resolve(final ManagedType<?> root) {
+    return attributes.computeIfAbsent(root, this::resolveAttributes);
+  }
+
+  private List<AttributeInfo> resolveAttributes(final ManagedType<?> root) {
+    final List<AttributeInfo> resolved = new ArrayList<>(columns.size());
+    ManagedType<?> type = root;
+    for (final String column : columns) {
+      final AttributeInfo attribute = AttributeCache.get(type, column);
+      resolved.add(attribute);
+
+      final ManagedType<?> target = AttributeInfo.target(type.getAttribute(column));
+      if (target == null) break;
+      type = target;
+    }
+    return List.copyOf(resolved);
+  }
+
+  /**
+   * Navigates the path from the root, associations are crossed by implicit inner joins. For
+   * expressions outside of the conditions, such as sort keys and selections.
+   *
+   * @param root root of the query.
+   */
+  @SuppressWarnings("unchecked")
+  <X> Path<X> navigate(final Path<?> root) {
+    Path<?> path = root;
+    for (final String column : columns) {
+      path = path.get(column);
+    }
+    return (Path<X>) path;
+  }
+
+  @Serial
+  private Object readResolve() {
+    return of(value);
+  }
+
+  @Override
+  public String toString() {
+    return value;
+  }
+}
@@ -18,7 +18,6 @@
 package io.github.szachesov.specification.builder;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
@@ -27,6 +26,7 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import lombok.EqualsAndHashCode;
 
 /**
  * Predicate of comparison operators.
@@ -34,6 +34,7 @@ import java.util.List;
  * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
  * @param <P> target predicate type, maybe {@link Join}
  */
+@EqualsAndHashCode(callSuper = true)
 public abstract class ComparisonSpecification<T, P extends Comparable<? super P>>
     extends CompositeSpecification<T, P> {
 
@@ -47,9 +48,7 @@ public abstract class ComparisonSpecification<T, P extends Comparable<? super P>
   }
 
   @Override
-  protected Predicate toCriteriaPredicate(
-      final Root<T> root, final CriteriaQuery<?> query, final CriteriaBuilder builder) {
-    final Path<P> path = getPath(root);
+  protected Predicate toCriteriaPredicate(final Path<P> path, final CriteriaBuilder builder) {
     return toPredicate(builder, path);
   }
 
@@ -70,8 +69,8 @@ public abstract class ComparisonSpecification<T, P extends Comparable<? super P>
     private Bound minBound = Bound.INCLUSIVE;
     private Bound maxBound = Bound.INCLUSIVE;
 
-    Builder(final List<String> columns, final P min, final P max) {
-      super(columns);
+    Builder(final ColumnPath columnPath, final P min, final P max) {
+      super(columnPath);
       this.min = min;
       this.max = max;
     }
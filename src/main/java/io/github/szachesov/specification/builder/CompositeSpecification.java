@@ -17,11 +17,7 @@
 
 package io.github.szachesov.specification.builder;
 
-import jakarta.persistence.ElementCollection;
-import jakarta.persistence.ManyToMany;
-import jakarta.persistence.ManyToOne;
-import jakarta.persistence.OneToMany;
-import jakarta.persistence.OneToOne;
+import jakarta.persistence.criteria.CommonAbstractCriteria;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Fetch;
@@ -31,13 +27,11 @@ import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import java.io.Serial;
-import java.lang.reflect.Field;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.Setter;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.jpa.domain.Specification;
@@ -50,26 +44,30 @@ import org.springframework.data.jpa.domain.Specification;
  * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
  * @param <P> target predicate type, maybe {@link Join}
  */
+@EqualsAndHashCode
 public abstract class CompositeSpecification<T, P> implements Specification<T> {
 
   @Serial private static final long serialVersionUID = -5778517129027250693L;
 
-  protected final List<String> columns;
+  protected final ColumnPath columnPath;
   protected final boolean isNot;
   protected final JoinType joinType;
-  LogicalOperator connection;
+  @EqualsAndHashCode.Exclude LogicalOperator connection;
+  @Getter(AccessLevel.PACKAGE)
   private final boolean isFetch;
 
+  @Getter(AccessLevel.PACKAGE)
   @Setter(AccessLevel.PACKAGE)
-  private boolean distinct = true;
+  private boolean isExists;
 
   protected <BuilderT extends Builder<BuilderT>> CompositeSpecification(
       final Builder<BuilderT> builder) {
-    this.columns = builder.columns;
+    this.columnPath = builder.columnPath;
     this.connection = builder.connection;
     this.isNot = builder.isNot;
     this.joinType = builder.joinType;
     this.isFetch = builder.isFetch;
+    this.isExists = builder.isExists;
   }
 
   @Override
@@ -77,79 +75,111 @@ public abstract class CompositeSpecification<T, P> implements Specification<T> {
       @Nullable final Root<T> root,
       @Nullable final CriteriaQuery<?> query,
       @Nullable final CriteriaBuilder criteriaBuilder) {
-    if (query != null) {
-      query.distinct(distinct);
-    }
-    return toCriteriaPredicate(root, query, criteriaBuilder);
+    return isExistsSubquery(root, query)
+        ? toExistsPredicate(root, query, criteriaBuilder)
+        : toPathPredicate(root, query, criteriaBuilder, isProjection(root, query));
   }
 
-  abstract Predicate toCriteriaPredicate(
-      Root<T> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder);
+  /**
+   * Whether the query selects no entities, e.g. the count query of {@code findAll(spec,
+   * pageable)} or a query of ids. Its fetch joins are rendered as plain joins, and a {@code LEFT}
+   * join is omitted only when the condition does not depend on its path, e.g. an empty {@code
+   * IN} list matching none inside a disjunction. Other joins are kept as they are.
+   */
+  static boolean isProjection(final Root<?> root, @Nullable final CriteriaQuery<?> query) {
+    return query != null && !query.getResultType().isAssignableFrom(root.getJavaType());
+  }
 
-  @SuppressWarnings("unchecked")
-  protected Path<P> getPath(final Root<T> root) {
-    Path<P> path = null;
-    From<?, ?> from = root;
-    Class<?> javaType = root.getJavaType();
-
-    for (final String column : columns) {
-      if (isObjectAssociation(column, javaType)) {
-        final Optional<Join<?, ?>> joinOpt = getJoin(root.getJoins(), column);
-        from = joinOpt.isPresent() ? joinOpt.get() : joinFetch(from, column);
-        javaType = from.getJavaType();
-
-      } else if (isElementCollection(column, javaType)) {
-        path = from.join(column);
-        break;
-      } else {
-        path = from.get(column);
-        break;
-      }
-    }
-    if (path == null) {
-      path = (Path<P>) from;
-    }
+  abstract Predicate toCriteriaPredicate(Path<P> path, CriteriaBuilder criteriaBuilder);
 
-    return path;
+  /** Predicate on the path within the query, so the condition can add a subquery. */
+  Predicate toCriteriaPredicate(
+      final Path<P> path,
+      final CommonAbstractCriteria query,
+      final CriteriaBuilder criteriaBuilder) {
+    return toCriteriaPredicate(path, criteriaBuilder);
   }
 
-  private boolean isObjectAssociation(final String column, final Class<?> javaType) {
-    final Field[] fields = javaType.getDeclaredFields();
-    final Field field =
-        Arrays.stream(fields).filter(f -> f.getName().equals(column)).findFirst().orElse(null);
-    if (field == null) return false;
-    return field.isAnnotationPresent(OneToOne.class)
-        || field.isAnnotationPresent(ManyToOne.class)
-        || field.isAnnotationPresent(OneToMany.class)
-        || field.isAnnotationPresent(ManyToMany.class);
+  /**
+   * Predicate on a normalized copy of the attribute, {@code null} if the condition does not
+   * support the copy and targets the next copy or the attribute itself.
+   *
+   * @see ShadowAttribute
+   */
+  @Nullable Predicate toShadowPredicate(
+      final Path<String> path, final ShadowAttribute shadow, final CriteriaBuilder builder) {
+    return null;
+  }
+
+  /**
+   * Predicate not referencing the path, {@code null} if the condition depends on the path. Lets
+   * a query selecting no entities omit a {@code LEFT} join the condition does not need.
+   */
+  @Nullable Predicate toConstantPredicate(final CriteriaBuilder criteriaBuilder) {
+    return null;
   }
 
-  private boolean isElementCollection(final String column, final Class<?> javaType) {
-    final Field[] fields = javaType.getDeclaredFields();
-    final Field field =
-        Arrays.stream(fields).filter(f -> f.getName().equals(column)).findFirst().orElse(null);
-    return field != null && field.isAnnotationPresent(ElementCollection.class);
+  /** Adds the condition to the accumulated conditions of its path. */
+  void constrain(final SpecificationNormalizer.Constraint<T> constraint) {
+    constraint.other(this);
   }
 
-  private Optional<Join<?, ?>> getJoin(final Set<? extends Join<?, ?>> joins, final String column) {
-    final Optional<Join<?, ?>> result = Optional.empty();
-    if (joins.isEmpty()) return result;
+  private boolean isExistsSubquery(final Root<T> root, @Nullable final CriteriaQuery<?> query) {
+    if (!isExists || isFetch || query == null) return false;
 
-    for (final Join<?, ?> join : joins) {
-      if (join.getAttribute().getName().equals(column)) {
-        return Optional.of(join);
-      }
+    for (final AttributeInfo attribute : columnPath.resolve(root.getModel())) {
+      if (attribute.collection()) return true;
     }
+    return false;
+  }
 
-    return result;
+  private Predicate toExistsPredicate(
+      final Root<T> root, final CriteriaQuery<?> query, final CriteriaBuilder criteriaBuilder) {
+    final Subquery<Integer> subquery = query.subquery(Integer.class);
+    final Root<T> correlated = subquery.correlate(root);
+    final Predicate predicate = toPathPredicate(correlated, subquery, criteriaBuilder, false);
+    subquery.select(criteriaBuilder.literal(1)).where(predicate);
+    return criteriaBuilder.exists(subquery);
   }
 
-  private Join<?, ?> joinFetch(final From<?, ?> from, final String column) {
-    if (isFetch) {
-      return (Join<?, ?>) from.fetch(column, joinType);
-    } else {
-      return from.join(column, joinType);
+  private Predicate toPathPredicate(
+      final Root<T> root,
+      @Nullable final CommonAbstractCriteria query,
+      final CriteriaBuilder criteriaBuilder,
+      final boolean isProjection) {
+    if (isProjection && joinType == JoinType.LEFT) {
+      final Predicate constant = toConstantPredicate(criteriaBuilder);
+      if (constant != null) return constant;
+    }
+
+    final Path<P> path = getPath(root, isFetch && !isProjection);
+    for (final ShadowAttribute shadow : columnPath.resolve(root.getModel()).getLast().shadows()) {
+      final Path<String> shadowPath = path.getParentPath().get(shadow.value());
+      final Predicate predicate = toShadowPredicate(shadowPath, shadow, criteriaBuilder);
+      if (predicate != null) return predicate;
     }
+    return query == null
+        ? toCriteriaPredicate(path, criteriaBuilder)
+        : toCriteriaPredicate(path, query, criteriaBuilder);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Path<P> getPath(final Root<T> root, final boolean fetch) {
+    Path<?> path = root;
+    for (final AttributeInfo attribute : columnPath.resolve(root.getModel())) {
+      final String column = attribute.name();
+      if (path instanceof From<?, ?> from
+          && attribute.kind() == AttributeInfo.Kind.ASSOCIATION) {
+        path = JoinRegistry.join(from, column, joinType, fetch);
+      } else if (path instanceof From<?, ?> from
+          && attribute.kind() == AttributeInfo.Kind.ELEMENT_COLLECTION) {
+        path = from.join(column);
+      } else {
+        path = path.get(column);
+      }
+    }
+
+    return (Path<P>) path;
   }
 
   /**
@@ -159,14 +189,15 @@ public abstract class CompositeSpecification<T, P> implements Specification<T> {
    */
   public abstract static class Builder<BuilderT extends Builder<BuilderT>> {
 
-    protected final List<String> columns;
+    protected final ColumnPath columnPath;
     private LogicalOperator connection = LogicalOperator.AND;
     private boolean isNot;
     private JoinType joinType = JoinType.INNER;
     private boolean isFetch;
+    private boolean isExists;
 
-    Builder(final List<String> columns) {
-      this.columns = columns;
+    Builder(final ColumnPath columnPath) {
+      this.columnPath = columnPath;
     }
 
     /**
@@ -189,12 +220,37 @@ public abstract class CompositeSpecification<T, P> implements Specification<T> {
       return self();
     }
 
-    /** Enables fetch join({@link Fetch}). */
+    /**
+     * Enables fetch join({@link Fetch}), rendered as a plain join in queries selecting no
+     * entities, e.g. count queries.
+     *
+     * @see SpecificationBuilder#fetchGraph(String...) loading without a join of the condition
+     */
     public BuilderT fetch() {
       this.isFetch = true;
       return self();
     }
 
+    /**
+     * Renders the condition as a correlated {@code EXISTS} subquery if its path crosses a
+     * collection, so the root rows are not multiplied by the join and need no {@code DISTINCT}.
+     * Ignored for fetch joins.
+     *
+     * <p>Example: {@code ... WHERE EXISTS (SELECT 1 FROM posts p WHERE p.author_id = u.id AND
+     * p.title = 'Title') ...}
+     */
+    public BuilderT exists() {
+      this.isExists = true;
+      return self();
+    }
+
+    BuilderT from(final CompositeSpecification<?, ?> spec) {
+      this.joinType = spec.joinType;
+      this.isFetch = spec.isFetch;
+      this.isExists = spec.isExists;
+      return self();
+    }
+
     /** Adds NOT to the condition. */
     public BuilderT not() {
       this.isNot = true;
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import lombok.experimental.UtilityClass;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.sqm.NodeBuilder;
+
+/**
+ * Database-specific capabilities resolved from the Hibernate dialect of a query.
+ *
+ * <p>Conditions with a database-specific rendering fall back to the portable one when the
+ * criteria builder is not Hibernate's or the dialect does not support the rendering.
+ */
+@UtilityClass
+class Dialects {
+
+  /** Whether a whole collection can be bound as one SQL array: {@code column = ANY(?)}. */
+  static boolean supportsAnyArray(final CriteriaBuilder criteriaBuilder) {
+    return criteriaBuilder instanceof NodeBuilder nodeBuilder
+        && (dialect(nodeBuilder) instanceof PostgreSQLDialect
+            || dialect(nodeBuilder) instanceof H2Dialect);
+  }
+
+  /**
+   * Whether a bound SQL array can be read as a relation: {@code column IN (SELECT v FROM
+   * UNNEST(?) v)}.
+   */
+  static boolean supportsUnnest(final CriteriaBuilder criteriaBuilder) {
+    return supportsAnyArray(criteriaBuilder);
+  }
+
+  /**
+   * Whether a full-text match can be rendered: {@code to_tsvector(...) @@ plainto_tsquery(...)}.
+   *
+   * @see FullTextFunctionContributor
+   */
+  static boolean supportsFullText(final CriteriaBuilder criteriaBuilder) {
+    return criteriaBuilder instanceof NodeBuilder nodeBuilder
+        && dialect(nodeBuilder) instanceof PostgreSQLDialect;
+  }
+
+  private static Dialect dialect(final NodeBuilder nodeBuilder) {
+    return nodeBuilder.getTypeConfiguration().getSessionFactory().getJdbcServices().getDialect();
+  }
+}
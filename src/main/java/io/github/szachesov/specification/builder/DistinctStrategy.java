@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.FetchParent;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/** Enumeration of strategies for eliminating duplicate query results. */
+public enum DistinctStrategy {
+  /**
+   * {@code SELECT DISTINCT} only when the query contains a to-many join ({@code OneToMany}, {@code
+   * ManyToMany}, {@code ElementCollection}), which is the only way the root can be duplicated. The
+   * joins are inspected once all conditions of the specification have been added.
+   */
+  AUTO {
+    @Override
+    void apply(final CriteriaQuery<?> query, final From<?, ?> root) {
+      if (hasCollectionJoin(root)) {
+        query.distinct(true);
+      }
+    }
+  },
+  /** Always {@code SELECT DISTINCT}. */
+  ALWAYS {
+    @Override
+    void apply(final CriteriaQuery<?> query, final From<?, ?> root) {
+      query.distinct(true);
+    }
+  },
+  /** Duplicates are retained, also by count queries. */
+  NEVER {
+    @Override
+    void apply(final CriteriaQuery<?> query, final From<?, ?> root) {
+      query.distinct(false);
+    }
+
+    @Override
+    void applyProjection(final CriteriaQuery<?> query, final From<?, ?> root) {
+      query.distinct(false);
+    }
+  },
+  /**
+   * No {@code SELECT DISTINCT}, duplicates are eliminated by primary key after fetching with
+   * {@link #deduplicate(List, PersistenceUnitUtil)}.
+   */
+  IN_MEMORY_BY_ID {
+    @Override
+    void apply(final CriteriaQuery<?> query, final From<?, ?> root) {
+      query.distinct(false);
+    }
+
+    @Override
+    public <T> List<T> deduplicate(final List<T> entities, final PersistenceUnitUtil util) {
+      final Set<Object> ids = new HashSet<>();
+      final List<T> result = new ArrayList<>(entities.size());
+      for (final T entity : entities) {
+        if (ids.add(util.getIdentifier(entity))) {
+          result.add(entity);
+        }
+      }
+      return result;
+    }
+  };
+
+  abstract void apply(CriteriaQuery<?> query, From<?, ?> root);
+
+  /**
+   * Applies the strategy to a query selecting no entities, e.g. a count query: {@code
+   * count(distinct id)} only when a to-many join remains, since only such a join can count the
+   * root more than once.
+   */
+  void applyProjection(final CriteriaQuery<?> query, final From<?, ?> root) {
+    query.distinct(hasCollectionJoin(root));
+  }
+
+  /**
+   * Eliminates duplicates from the fetched entities, keeping the first occurrence. Only {@link
+   * #IN_MEMORY_BY_ID} removes entities, the other strategies return them unchanged.
+   *
+   * @param entities fetched entities.
+   * @param util persistence unit utility of the entities.
+   */
+  public <T> List<T> deduplicate(final List<T> entities, final PersistenceUnitUtil util) {
+    return entities;
+  }
+
+  static boolean hasCollectionJoin(final From<?, ?> from) {
+    for (final Join<?, ?> join : from.getJoins()) {
+      if (join.getAttribute().isCollection() || hasCollectionJoin(join)) {
+        return true;
+      }
+    }
+    return hasCollectionFetch(from);
+  }
+
+  private static boolean hasCollectionFetch(final FetchParent<?, ?> parent) {
+    for (final Fetch<?, ?> fetch : parent.getFetches()) {
+      if (fetch.getAttribute().isCollection() || hasCollectionFetch(fetch)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
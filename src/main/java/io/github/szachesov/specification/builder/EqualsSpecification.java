@@ -18,37 +18,71 @@
 package io.github.szachesov.specification.builder;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import java.io.Serial;
 import java.util.List;
+import lombok.EqualsAndHashCode;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Predicate of equal to(=).
  *
  * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
  */
+@EqualsAndHashCode(callSuper = true)
 public class EqualsSpecification<T> extends CompositeSpecification<T, Object> {
 
   @Serial private static final long serialVersionUID = 637979759818300347L;
 
   private final Object value;
+  private final CaseFolding caseFolding;
 
   private EqualsSpecification(final Builder<T> builder) {
     super(builder);
     this.value = builder.value;
+    this.caseFolding = builder.caseFolding;
   }
 
   @Override
-  Predicate toCriteriaPredicate(
-      final Root<T> root, final CriteriaQuery<?> query, final CriteriaBuilder criteriaBuilder) {
-    final Path<Object> path = getPath(root);
-
+  Predicate toCriteriaPredicate(final Path<Object> path, final CriteriaBuilder criteriaBuilder) {
+    if (isFolded()) {
+      @SuppressWarnings("unchecked")
+      final Expression<String> expression = (Expression<String>) (Expression<?>) path;
+      final Predicate predicate = caseFolding.equal(expression, (String) value, criteriaBuilder);
+      return isNot ? criteriaBuilder.not(predicate) : predicate;
+    }
     return isNot ? criteriaBuilder.notEqual(path, value) : criteriaBuilder.equal(path, value);
   }
 
+  @Override
+  @Nullable Predicate toShadowPredicate(
+      final Path<String> path, final ShadowAttribute shadow, final CriteriaBuilder builder) {
+    if (shadow.reversed() || !(value instanceof String string)) return null;
+
+    final String normalized = shadow.normalizer().normalize(string);
+    return isNot ? builder.notEqual(path, normalized) : builder.equal(path, normalized);
+  }
+
+  private boolean isFolded() {
+    return caseFolding != CaseFolding.NONE && value instanceof String;
+  }
+
+  /**
+   * Strings are kept as written: the attribute may be matched through a {@link ShadowAttribute},
+   * which is resolved with the query, so equal raw values are not equal normalized ones.
+   */
+  @Override
+  void constrain(final SpecificationNormalizer.Constraint<T> constraint) {
+    if (isNot || value instanceof String) {
+      constraint.other(this);
+    } else {
+      constraint.in(List.of(value));
+    }
+  }
+
   /**
    * Builder for {@link EqualsSpecification}.
    *
@@ -57,12 +91,38 @@ public class EqualsSpecification<T> extends CompositeSpecification<T, Object> {
   public static class Builder<T> extends CompositeSpecification.Builder<Builder<T>>
       implements ObjectBuilder<EqualsSpecification<T>> {
     private final Object value;
+    private CaseFolding ignoreCaseFolding = CaseFolding.UPPER;
+    private CaseFolding caseFolding = CaseFolding.NONE;
 
-    Builder(final List<String> columns, final Object value) {
-      super(columns);
+    Builder(final ColumnPath columnPath, final Object value) {
+      super(columnPath);
       this.value = value;
     }
 
+    /**
+     * Case-insensitive comparison of a string value with the strategy set by {@link
+     * SpecificationBuilder#caseFolding(CaseFolding)}, by default {@link CaseFolding#UPPER}.
+     *
+     * <p>Example: {@code ... WHERE UPPER(column) = 'WILL' ...}
+     */
+    public Builder<T> ignoreCase() {
+      return caseFolding(ignoreCaseFolding);
+    }
+
+    /**
+     * Strategy of comparison of a string value, by default {@link CaseFolding#NONE}. Ignored for
+     * values of other types.
+     */
+    public Builder<T> caseFolding(final CaseFolding caseFolding) {
+      this.caseFolding = caseFolding;
+      return this;
+    }
+
+    Builder<T> ignoreCaseFolding(final CaseFolding caseFolding) {
+      this.ignoreCaseFolding = caseFolding;
+      return this;
+    }
+
     @Override
     public EqualsSpecification<T> build() {
       return new EqualsSpecification<>(this);
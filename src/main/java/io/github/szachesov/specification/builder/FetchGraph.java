@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Graph;
+import java.io.Serializable;
+import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
+
+/**
+ * Attribute paths loaded by an entity graph hint instead of fetch joins of the conditions. The
+ * conditions keep only the joins they need, and the provider joins the graph paths into the query
+ * loading the entities, e.g. the second query of {@code SpecificationExecutors.findAllByIds}.
+ *
+ * @param paths dotted attribute paths, e.g. {@code posts.tags}.
+ * @param type {@link EntityGraphType#FETCH} loads the other attributes lazily, {@link
+ *     EntityGraphType#LOAD} by their mapped fetch type.
+ * @see SpecificationBuilder#fetchGraph(EntityGraphType, String...)
+ */
+public record FetchGraph(List<String> paths, EntityGraphType type) implements Serializable {
+
+  /**
+   * Creates an entity graph.
+   *
+   * @param paths dotted attribute paths.
+   * @param type type of the graph hint.
+   */
+  public FetchGraph {
+    paths = List.copyOf(paths);
+  }
+
+  /**
+   * Creates the entity graph of the domain class, to be passed as the hint named by {@link
+   * EntityGraphType#getKey()} of the type.
+   *
+   * @param entityManager entity manager of the query.
+   * @param domainClass root entity of the query.
+   * @throws IllegalArgumentException if an attribute does not exist.
+   */
+  public <T> EntityGraph<T> toEntityGraph(
+      final EntityManager entityManager, final Class<T> domainClass) {
+    final EntityGraph<T> graph = entityManager.createEntityGraph(domainClass);
+    for (final String path : paths) {
+      final List<String> columns = ColumnPath.of(path).getColumns();
+      Graph<?> parent = graph;
+      for (final String column : columns.subList(0, columns.size() - 1)) {
+        parent = parent.addSubgraph(column);
+      }
+      parent.addAttributeNodes(columns.getLast());
+    }
+    return graph;
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the full-text match operator used by {@link FullTextSpecification} for PostgreSQL.
+ *
+ * <p>The operator is registered as a function pattern, since a function call such as {@code
+ * ts_match_vq(...)} can not use a {@code GIN} index.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+  /** Name of the match function: {@code fts_match(document, query)}. */
+  static final String MATCH = "fts_match";
+
+  @Override
+  public void contributeFunctions(final FunctionContributions functionContributions) {
+    if (!(functionContributions.getDialect() instanceof PostgreSQLDialect)) return;
+
+    functionContributions
+        .getFunctionRegistry()
+        .registerPattern(
+            MATCH,
+            "(?1 @@ ?2)",
+            functionContributions
+                .getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN));
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.io.Serial;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Predicate of full-text search, rendered as a PostgreSQL full-text match that can use a {@code
+ * GIN} index. Other dialects fall back to a case-insensitive {@code LIKE} of every word.
+ *
+ * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
+ */
+@EqualsAndHashCode(callSuper = true)
+public class FullTextSpecification<T> extends CompositeSpecification<T, String> {
+
+  @Serial private static final long serialVersionUID = 3816477962058713402L;
+
+  private static final Pattern WORDS = Pattern.compile("\\s+");
+
+  private final String value;
+  private final String config;
+  private final @Nullable String vector;
+  private final CaseFolding caseFolding;
+
+  private FullTextSpecification(final Builder<T> builder) {
+    super(builder);
+    this.value = builder.value;
+    this.config = builder.config;
+    this.vector = builder.vector;
+    this.caseFolding = builder.caseFolding;
+  }
+
+  @Override
+  Predicate toCriteriaPredicate(final Path<String> path, final CriteriaBuilder builder) {
+    if (!Dialects.supportsFullText(builder)) {
+      return toLikePredicate(path, builder);
+    }
+
+    final Expression<String> document =
+        vector == null
+            ? builder.function("to_tsvector", String.class, builder.literal(config), path)
+            : path.getParentPath().get(vector);
+    final Expression<String> query =
+        builder.function(
+            "plainto_tsquery",
+            String.class,
+            builder.literal(config),
+            ((HibernateCriteriaBuilder) builder).value(value));
+    return builder.isTrue(
+        builder.function(FullTextFunctionContributor.MATCH, Boolean.class, document, query));
+  }
+
+  private Predicate toLikePredicate(final Path<String> path, final CriteriaBuilder builder) {
+    final String[] words = WORDS.split(value.strip());
+    final Predicate[] predicates = new Predicate[words.length];
+    for (int i = 0; i < words.length; i++) {
+      final String pattern =
+          Wildcard.MULTIPLE.getWithWildcard().apply(LikeSpecification.escape(words[i]));
+      predicates[i] = caseFolding.like(path, pattern, builder);
+    }
+    return builder.and(predicates);
+  }
+
+  /**
+   * Builder for {@link FullTextSpecification}.
+   *
+   * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
+   */
+  public static class Builder<T> extends CompositeSpecification.Builder<Builder<T>>
+      implements ObjectBuilder<FullTextSpecification<T>> {
+    private final String value;
+    private String config = "simple";
+    private @Nullable String vector;
+    private CaseFolding caseFolding = CaseFolding.UPPER;
+
+    Builder(final ColumnPath columnPath, final String value) {
+      super(columnPath);
+      this.value = value;
+    }
+
+    /**
+     * Text search configuration of the document and the query, by default {@code simple}. Must be
+     * the same as in the index expression.
+     *
+     * <p>Example: {@code ... WHERE to_tsvector('english', column) @@ plainto_tsquery('english',
+     * 'spring data') ...}
+     */
+    public Builder<T> config(final String config) {
+      this.config = config;
+      return this;
+    }
+
+    /**
+     * Matches a {@code tsvector} attribute of the same managed type instead of the expression
+     * over the column, for a stored document of one or several columns. The column itself is
+     * still used by the {@code LIKE} fallback.
+     *
+     * <p>Example: {@code ... WHERE column_vector @@ plainto_tsquery('simple', 'spring data') ...}
+     *
+     * @param vector name of the {@code tsvector} attribute.
+     */
+    public Builder<T> vector(final String vector) {
+      this.vector = vector;
+      return this;
+    }
+
+    /**
+     * Strategy of case-insensitive comparison of the {@code LIKE} fallback, by default {@link
+     * CaseFolding#UPPER}.
+     *
+     * @see SpecificationBuilder#caseFolding(CaseFolding)
+     */
+    public Builder<T> caseFolding(final CaseFolding caseFolding) {
+      this.caseFolding = caseFolding;
+      return this;
+    }
+
+    @Override
+    public FullTextSpecification<T> build() {
+      return new FullTextSpecification<>(this);
+    }
+
+    @Override
+    protected Builder<T> self() {
+      return this;
+    }
+  }
+}
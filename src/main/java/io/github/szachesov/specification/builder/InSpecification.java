@@ -17,14 +17,29 @@
 
 package io.github.szachesov.specification.builder;
 
+import jakarta.persistence.criteria.CommonAbstractCriteria;
 import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import java.io.Serial;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaFunctionRoot;
+import org.hibernate.query.criteria.JpaSubQuery;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Predicate of equal to one of multiple possible values(IN).
@@ -32,21 +47,230 @@ import java.util.List;
  * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
  * @param <P> target predicate type, maybe {@link Join}
  */
+@EqualsAndHashCode(callSuper = true)
 public class InSpecification<T, P> extends CompositeSpecification<T, P> {
 
   @Serial private static final long serialVersionUID = 4863139718722687097L;
 
+  private static final Set<Class<?>> INTEGRAL_TYPES =
+      Set.of(Byte.class, Short.class, Integer.class, Long.class);
+
   private final Collection<P> values;
+  @Getter(AccessLevel.PACKAGE)
+  private final boolean isEmptyMatchesNone;
+  private final boolean isSortDistinct;
+  private final boolean isPadding;
+  private final int chunkSize;
+  private final int anyArrayThreshold;
+  private final int semiJoinThreshold;
+  private final int minRangeSize;
 
   private InSpecification(final Builder<T, P> builder) {
     super(builder);
-    this.values = builder.values;
+    this.isEmptyMatchesNone = builder.isEmptyMatchesNone;
+    this.isSortDistinct = builder.isSortDistinct;
+    this.isPadding = builder.isPadding;
+    this.chunkSize = builder.chunkSize;
+    this.anyArrayThreshold = builder.anyArrayThreshold;
+    this.semiJoinThreshold = builder.semiJoinThreshold;
+    this.minRangeSize = builder.minRangeSize;
+    this.values = isSortDistinct ? sortDistinct(builder.values) : builder.values;
+  }
+
+  @Override
+  @Nullable Predicate toConstantPredicate(final CriteriaBuilder criteriaBuilder) {
+    return values.isEmpty() ? criteriaBuilder.disjunction() : null;
+  }
+
+  @Override
+  Predicate toCriteriaPredicate(final Path<P> path, final CriteriaBuilder criteriaBuilder) {
+    return toValuesPredicate(path, null, criteriaBuilder);
   }
 
   @Override
   Predicate toCriteriaPredicate(
-      final Root<T> root, final CriteriaQuery<?> query, final CriteriaBuilder criteriaBuilder) {
-    return getPath(root).in(values);
+      final Path<P> path,
+      final CommonAbstractCriteria query,
+      final CriteriaBuilder criteriaBuilder) {
+    return toValuesPredicate(path, query, criteriaBuilder);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Predicate toValuesPredicate(
+      final Path<P> path,
+      @Nullable final CommonAbstractCriteria query,
+      final CriteriaBuilder criteriaBuilder) {
+    if (values.isEmpty()) return criteriaBuilder.disjunction();
+
+    final Collection<P> in =
+        values instanceof IntegralValues integral
+            ? (Collection<P>) integral.as(path.getJavaType())
+            : values;
+    if (minRangeSize > 0 && (in instanceof IntegralValues || isIntegral(in))) {
+      return toRangesPredicate(path, in, query, criteriaBuilder);
+    }
+    return toInPredicate(path, in, query, criteriaBuilder);
+  }
+
+  private Predicate toInPredicate(
+      final Path<P> path,
+      final Collection<P> in,
+      @Nullable final CommonAbstractCriteria query,
+      final CriteriaBuilder criteriaBuilder) {
+    if (query != null
+        && semiJoinThreshold > 0
+        && in.size() >= semiJoinThreshold
+        && Dialects.supportsUnnest(criteriaBuilder)) {
+      return toSemiJoinPredicate(path, in, query, criteriaBuilder);
+    }
+    if (anyArrayThreshold > 0
+        && in.size() >= anyArrayThreshold
+        && Dialects.supportsAnyArray(criteriaBuilder)) {
+      return toAnyArrayPredicate(path, in, criteriaBuilder);
+    }
+    if (chunkSize == 0 || in.size() <= chunkSize) return path.in(pad(in));
+
+    final List<P> list = in instanceof List<P> valueList ? valueList : new ArrayList<>(in);
+    final List<Predicate> chunks = new ArrayList<>(list.size() / chunkSize + 1);
+    for (int from = 0; from < list.size(); from += chunkSize) {
+      chunks.add(path.in(pad(list.subList(from, Math.min(from + chunkSize, list.size())))));
+    }
+    return criteriaBuilder.or(chunks.toArray(Predicate[]::new));
+  }
+
+  /**
+   * Replaces runs of consecutive integral values with {@code BETWEEN} and keeps the rest in an
+   * {@code IN} list.
+   */
+  @SuppressWarnings("unchecked")
+  private Predicate toRangesPredicate(
+      final Path<P> path,
+      final Collection<P> in,
+      @Nullable final CommonAbstractCriteria query,
+      final CriteriaBuilder criteriaBuilder) {
+    final List<P> sorted =
+        in instanceof IntegralValues integral
+            ? (List<P>) integral.sortDistinct()
+            : new ArrayList<>(new TreeSet<>(in));
+    final Path<Comparable<Object>> comparable = (Path<Comparable<Object>>) (Path<?>) path;
+    final List<Predicate> predicates = new ArrayList<>();
+    final List<P> residual = new ArrayList<>();
+    int start = 0;
+    for (int i = 1; i <= sorted.size(); i++) {
+      if (i < sorted.size() && toLong(sorted, i) == toLong(sorted, i - 1) + 1) continue;
+
+      if (i - start >= minRangeSize) {
+        predicates.add(
+            criteriaBuilder.between(
+                comparable,
+                (Comparable<Object>) sorted.get(start),
+                (Comparable<Object>) sorted.get(i - 1)));
+      } else {
+        residual.addAll(sorted.subList(start, i));
+      }
+      start = i;
+    }
+    if (!residual.isEmpty()) {
+      predicates.add(toInPredicate(path, residual, query, criteriaBuilder));
+    }
+    return predicates.size() == 1
+        ? predicates.getFirst()
+        : criteriaBuilder.or(predicates.toArray(Predicate[]::new));
+  }
+
+  private static <P> Predicate toAnyArrayPredicate(
+      final Path<P> path, final Collection<P> in, final CriteriaBuilder criteriaBuilder) {
+    final Class<?> type = MethodType.methodType(path.getJavaType()).wrap().returnType();
+    return criteriaBuilder.equal(
+        path, criteriaBuilder.function("any", type, criteriaBuilder.literal(toArray(type, in))));
+  }
+
+  /** Semi-join of the values bound as one array and read as a relation by {@code unnest}. */
+  @SuppressWarnings("unchecked")
+  private static <P> Predicate toSemiJoinPredicate(
+      final Path<P> path,
+      final Collection<P> in,
+      final CommonAbstractCriteria query,
+      final CriteriaBuilder criteriaBuilder) {
+    final HibernateCriteriaBuilder builder = (HibernateCriteriaBuilder) criteriaBuilder;
+    final Class<P> type =
+        (Class<P>) MethodType.methodType(path.getJavaType()).wrap().returnType();
+    final JpaSubQuery<P> subquery = (JpaSubQuery<P>) query.subquery(type);
+    final JpaFunctionRoot<P> value =
+        subquery.from(builder.unnestArray(builder.value((P[]) toArray(type, in))));
+    return path.in(subquery.select(value));
+  }
+
+  private static Object[] toArray(final Class<?> type, final Collection<?> in) {
+    return in.toArray((Object[]) Array.newInstance(type, in.size()));
+  }
+
+  /** Strings are kept as written, see {@link EqualsSpecification}. */
+  @Override
+  void constrain(final SpecificationNormalizer.Constraint<T> constraint) {
+    if (values instanceof IntegralValues || containsString(values)) {
+      constraint.other(this);
+    } else {
+      constraint.options(this);
+      constraint.in(values);
+    }
+  }
+
+  /**
+   * Pads the values up to the next power of two by repeating the last one, so lists of similar
+   * sizes share one SQL string.
+   */
+  private Collection<P> pad(final Collection<P> chunk) {
+    if (!isPadding || chunk.size() < 2) return chunk;
+
+    int size = Integer.highestOneBit(chunk.size() - 1) << 1;
+    if (chunkSize > 0) {
+      size = Math.min(size, chunkSize);
+    }
+    final List<P> padded = new ArrayList<>(size);
+    padded.addAll(chunk);
+    final P last = padded.getLast();
+    while (padded.size() < size) {
+      padded.add(last);
+    }
+    return padded;
+  }
+
+  private static boolean containsString(final Collection<?> values) {
+    for (final Object value : values) {
+      if (value instanceof String) return true;
+    }
+    return false;
+  }
+
+  private static boolean isIntegral(final Collection<?> values) {
+    final Object first = values.iterator().next();
+    if (first == null || !INTEGRAL_TYPES.contains(first.getClass())) return false;
+    for (final Object value : values) {
+      if (value == null || value.getClass() != first.getClass()) return false;
+    }
+    return true;
+  }
+
+  private static long toLong(final List<?> values, final int index) {
+    return values instanceof IntegralValues integral
+        ? integral.getLong(index)
+        : ((Number) values.get(index)).longValue();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <P> Collection<P> sortDistinct(final Collection<P> values) {
+    if (values instanceof IntegralValues integral) return (Collection<P>) integral.sortDistinct();
+
+    final List<P> distinct = new ArrayList<>(new LinkedHashSet<>(values));
+    distinct.removeIf(Objects::isNull);
+    for (final P value : distinct) {
+      if (!(value instanceof Comparable<?>) || value.getClass() != distinct.getFirst().getClass()) {
+        return distinct;
+      }
+    }
+    distinct.sort((left, right) -> ((Comparable<Object>) left).compareTo(right));
+    return distinct;
   }
 
   /**
@@ -59,12 +283,152 @@ public class InSpecification<T, P> extends CompositeSpecification<T, P> {
       implements ObjectBuilder<InSpecification<T, P>> {
 
     private final Collection<P> values;
+    private boolean isEmptyMatchesNone;
+    private boolean isSortDistinct;
+    private boolean isPadding;
+    private int chunkSize;
+    private int anyArrayThreshold;
+    private int semiJoinThreshold;
+    private int minRangeSize;
 
-    Builder(final List<String> columns, final Collection<P> values) {
-      super(columns);
+    Builder(final ColumnPath columnPath, final Collection<P> values) {
+      super(columnPath);
       this.values = values;
     }
 
+    /**
+     * An empty collection of values matches no rows instead of dropping the condition, so "no
+     * allowed values" does not turn into "all rows".
+     *
+     * <p>Example: {@code ... WHERE 1 = 0 ...}
+     */
+    public Builder<T, P> emptyMatchesNone() {
+      this.isEmptyMatchesNone = true;
+      return self();
+    }
+
+    /**
+     * Removes duplicate and {@code null} values and sorts comparable ones, so the same values
+     * always give the same SQL parameters.
+     *
+     * <p>Example: {@code (3, 1, 3)} is sent as {@code ... WHERE column IN (1, 3) ...}
+     */
+    public Builder<T, P> sortDistinct() {
+      this.isSortDistinct = true;
+      return self();
+    }
+
+    /**
+     * Pads the values up to the next power of two by repeating the last one, so the Hibernate
+     * query plan cache and the JDBC statement cache see a few IN sizes instead of one per list
+     * size.
+     *
+     * <p>Example: {@code (1, 2, 3)} is sent as {@code ... WHERE column IN (1, 2, 3, 3) ...}
+     */
+    public Builder<T, P> padding() {
+      this.isPadding = true;
+      return self();
+    }
+
+    /**
+     * Splits values beyond the limit into IN lists of at most this size connected with OR, for
+     * databases limiting the number of IN values.
+     *
+     * <p>Example: {@code ... WHERE (column IN (1, ..., 1000) OR column IN (1001, ...)) ...}
+     *
+     * @param chunkSize maximum number of values in one IN list.
+     */
+    public Builder<T, P> chunkSize(final int chunkSize) {
+      if (chunkSize < 1) {
+        throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+      }
+      this.chunkSize = chunkSize;
+      return self();
+    }
+
+    /**
+     * Binds all values as one SQL array instead of one parameter per value, for lists of
+     * thousands of values. Supported on PostgreSQL and H2, other databases use {@code IN}.
+     *
+     * <p>Example: {@code ... WHERE column = ANY(?) ...}
+     */
+    public Builder<T, P> anyArray() {
+      return anyArray(1);
+    }
+
+    /**
+     * Binds the values as one SQL array, see {@link #anyArray()}, only if there are at least
+     * {@code threshold} of them. Shorter lists keep the {@code IN} list with its exact size, so the
+     * planner sees each value.
+     *
+     * <p>Example: {@code ... WHERE column IN (?, ?) ...} or {@code ... WHERE column = ANY(?) ...}
+     *
+     * @param threshold minimum number of values bound as an array.
+     */
+    public Builder<T, P> anyArray(final int threshold) {
+      if (threshold < 1) {
+        throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+      }
+      this.anyArrayThreshold = threshold;
+      return self();
+    }
+
+    /**
+     * Semi-joins the values bound as one SQL array and read as a relation by {@code unnest}, if
+     * there are at least {@code threshold} of them. For sets of hundreds of thousands of values,
+     * which the planner joins as a relation instead of checking each row against a list.
+     * Supported on PostgreSQL and H2 within a query, otherwise {@link #anyArray(int)} and {@code
+     * IN} apply.
+     *
+     * <p>Example: {@code ... WHERE column IN (SELECT v FROM unnest(?) v) ...}
+     *
+     * @param threshold minimum number of values semi-joined as a relation.
+     */
+    public Builder<T, P> semiJoin(final int threshold) {
+      if (threshold < 1) {
+        throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+      }
+      this.semiJoinThreshold = threshold;
+      return self();
+    }
+
+    /**
+     * Replaces runs of at least three consecutive integral values with {@code BETWEEN}, see {@link
+     * #compressRanges(int)}.
+     */
+    public Builder<T, P> compressRanges() {
+      return compressRanges(3);
+    }
+
+    /**
+     * Replaces runs of consecutive integral values with {@code BETWEEN} ranges and keeps the
+     * remaining values in an {@code IN} list, so blocks of ids use an index range scan and two
+     * binds each. Ignored for non-integral values.
+     *
+     * <p>Example: {@code (1, 2, 3, 4, 9)} is sent as {@code ... WHERE (column BETWEEN 1 AND 4 OR
+     * column IN (9)) ...}
+     *
+     * @param minRangeSize minimum number of consecutive values replaced with a range.
+     */
+    public Builder<T, P> compressRanges(final int minRangeSize) {
+      if (minRangeSize < 2) {
+        throw new IllegalArgumentException("Range size must be at least 2: " + minRangeSize);
+      }
+      this.minRangeSize = minRangeSize;
+      return self();
+    }
+
+    Builder<T, P> options(final InSpecification<?, ?> spec) {
+      this.isEmptyMatchesNone = spec.isEmptyMatchesNone;
+      this.isSortDistinct = spec.isSortDistinct;
+      this.isPadding = spec.isPadding;
+      this.chunkSize = spec.chunkSize;
+      this.anyArrayThreshold = spec.anyArrayThreshold;
+      this.semiJoinThreshold = spec.semiJoinThreshold;
+      this.minRangeSize = spec.minRangeSize;
+      return self();
+    }
+
     @Override
     public InSpecification<T, P> build() {
       return new InSpecification<>(this);
@@ -24,6 +24,7 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import java.io.Serial;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 /**
@@ -32,6 +33,7 @@ import lombok.Getter;
  * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
  * @param <P> target predicate type, maybe {@link Join}
  */
+@EqualsAndHashCode(callSuper = true)
 public class InequalitySpecification<T, P extends Comparable<? super P>>
     extends ComparisonSpecification<T, P> {
 
@@ -69,6 +71,11 @@ public class InequalitySpecification<T, P extends Comparable<? super P>>
     return sign.toPredicate(builder, path, range);
   }
 
+  @Override
+  void constrain(final SpecificationNormalizer.Constraint<T> constraint) {
+    sign.constrain(constraint, range);
+  }
+
   /**
    * The sign of inequality.
    *
@@ -83,6 +90,12 @@ public class InequalitySpecification<T, P extends Comparable<? super P>>
           final CriteriaBuilder builder, final Path<P> path, final Range<P> range) {
         return builder.greaterThan(path, range.min());
       }
+
+      @Override
+      <P extends Comparable<? super P>> void constrain(
+          final SpecificationNormalizer.Constraint<?> constraint, final Range<P> range) {
+        constraint.lower(range.min(), false);
+      }
     },
     GTE("greater than or equal to", ">=") {
       @Override
@@ -90,6 +103,12 @@ public class InequalitySpecification<T, P extends Comparable<? super P>>
           final CriteriaBuilder builder, final Path<P> path, final Range<P> range) {
         return builder.greaterThanOrEqualTo(path, range.min());
       }
+
+      @Override
+      <P extends Comparable<? super P>> void constrain(
+          final SpecificationNormalizer.Constraint<?> constraint, final Range<P> range) {
+        constraint.lower(range.min(), true);
+      }
     },
     LT("less than", "<") {
       @Override
@@ -97,6 +116,12 @@ public class InequalitySpecification<T, P extends Comparable<? super P>>
           final CriteriaBuilder builder, final Path<P> path, final Range<P> range) {
         return builder.lessThan(path, range.max());
       }
+
+      @Override
+      <P extends Comparable<? super P>> void constrain(
+          final SpecificationNormalizer.Constraint<?> constraint, final Range<P> range) {
+        constraint.upper(range.max(), false);
+      }
     },
     LTE("less than or equal to", "<=") {
       @Override
@@ -104,6 +129,12 @@ public class InequalitySpecification<T, P extends Comparable<? super P>>
           final CriteriaBuilder builder, final Path<P> path, final Range<P> range) {
         return builder.lessThanOrEqualTo(path, range.max());
       }
+
+      @Override
+      <P extends Comparable<? super P>> void constrain(
+          final SpecificationNormalizer.Constraint<?> constraint, final Range<P> range) {
+        constraint.upper(range.max(), true);
+      }
     };
 
     private final String name;
@@ -111,5 +142,8 @@ public class InequalitySpecification<T, P extends Comparable<? super P>>
 
     abstract <P extends Comparable<? super P>> Predicate toPredicate(
         CriteriaBuilder builder, Path<P> path, Range<P> range);
+
+    abstract <P extends Comparable<? super P>> void constrain(
+        SpecificationNormalizer.Constraint<?> constraint, Range<P> range);
   }
 }
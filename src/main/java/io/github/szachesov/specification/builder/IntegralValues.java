@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.invoke.MethodType;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Integral {@code IN} values kept in a primitive array.
+ *
+ * <p>The values are boxed one by one only when they are bound, into the type of the target
+ * attribute resolved by {@link #as(Class)}.
+ */
+final class IntegralValues extends AbstractList<Number> implements RandomAccess, Serializable {
+
+  @Serial private static final long serialVersionUID = -2165476025164183921L;
+
+  private static final Map<Class<?>, long[]> RANGES =
+      Map.of(
+          Byte.class, new long[] {Byte.MIN_VALUE, Byte.MAX_VALUE},
+          Short.class, new long[] {Short.MIN_VALUE, Short.MAX_VALUE},
+          Integer.class, new long[] {Integer.MIN_VALUE, Integer.MAX_VALUE},
+          Long.class, new long[] {Long.MIN_VALUE, Long.MAX_VALUE});
+
+  private final long[] values;
+  private final Class<?> type;
+
+  private IntegralValues(final long[] values, final Class<?> type) {
+    this.values = values;
+    this.type = type;
+  }
+
+  static IntegralValues copyOf(final long[] values) {
+    return new IntegralValues(values.clone(), Long.class);
+  }
+
+  static IntegralValues of(final long[] values) {
+    return new IntegralValues(values, Long.class);
+  }
+
+  static IntegralValues of(final int[] values) {
+    return of(Arrays.stream(values).asLongStream().toArray());
+  }
+
+  /**
+   * Returns the values boxed into the type of the target attribute.
+   *
+   * @param attributeType java type of the target attribute.
+   * @throws IllegalArgumentException if the attribute is not integral or a value is out of its
+   *     range.
+   */
+  IntegralValues as(final Class<?> attributeType) {
+    final Class<?> boxed = MethodType.methodType(attributeType).wrap().returnType();
+    if (boxed == type) return this;
+
+    final long[] range = RANGES.get(boxed);
+    if (range == null) {
+      throw new IllegalArgumentException(
+          "Integral values cannot be bound to [" + attributeType.getName() + "]");
+    }
+    for (final long value : values) {
+      if (value < range[0] || value > range[1]) {
+        throw new IllegalArgumentException(
+            "Value [" + value + "] is out of range of [" + attributeType.getName() + "]");
+      }
+    }
+    return new IntegralValues(values, boxed);
+  }
+
+  IntegralValues sortDistinct() {
+    return new IntegralValues(Arrays.stream(values).sorted().distinct().toArray(), type);
+  }
+
+  /** Returns the value at the index without boxing it. */
+  long getLong(final int index) {
+    return values[index];
+  }
+
+  @Override
+  public Number get(final int index) {
+    final long value = values[index];
+    if (type == Integer.class) return (int) value;
+    if (type == Short.class) return (short) value;
+    if (type == Byte.class) return (byte) value;
+    return value;
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (other instanceof IntegralValues integral && integral.type == type) {
+      return Arrays.equals(values, integral.values);
+    }
+    return super.equals(other);
+  }
+
+  @Override
+  public int hashCode() {
+    if (type == Long.class) return Arrays.hashCode(values);
+
+    int hashCode = 1;
+    for (final long value : values) {
+      hashCode = 31 * hashCode + (int) value;
+    }
+    return hashCode;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import lombok.experimental.UtilityClass;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Registry of the joins of a query.
+ *
+ * <p>A join is identified by its parent (the path prefix), the attribute name, the join type and
+ * whether it is a fetch join. The registry reuses the join already present in the query for that
+ * key at any depth, so each association path is joined exactly once per query. Element
+ * collections are not registered: each condition joins its own row, so two conditions on a
+ * collection of values match an entity containing both values.
+ */
+@UtilityClass
+class JoinRegistry {
+
+  /**
+   * Returns the join of the attribute, creating it only if the query does not contain it yet.
+   *
+   * @param from parent of the join.
+   * @param attribute name of the joined attribute.
+   * @param joinType type of the join.
+   * @param fetch whether the join is a fetch join.
+   */
+  static Join<?, ?> join(
+      final From<?, ?> from, final String attribute, final JoinType joinType, final boolean fetch) {
+    final Join<?, ?> join =
+        fetch ? findFetch(from, attribute, joinType) : find(from, attribute, joinType);
+    if (join != null) return join;
+
+    return fetch ? (Join<?, ?>) from.fetch(attribute, joinType) : from.join(attribute, joinType);
+  }
+
+  private static @Nullable Join<?, ?> find(
+      final From<?, ?> from, final String attribute, final JoinType joinType) {
+    for (final Join<?, ?> join : from.getJoins()) {
+      if (join.getJoinType() == joinType && join.getAttribute().getName().equals(attribute)) {
+        return join;
+      }
+    }
+    return null;
+  }
+
+  private static @Nullable Join<?, ?> findFetch(
+      final From<?, ?> from, final String attribute, final JoinType joinType) {
+    for (final Fetch<?, ?> fetch : from.getFetches()) {
+      if (fetch.getJoinType() == joinType && fetch.getAttribute().getName().equals(attribute)) {
+        return (Join<?, ?>) fetch;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.metamodel.Metamodel;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.Hibernate;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Position of keyset pagination: the values of the sort keys of the last row of a page.
+ *
+ * <p>The cursor is passed to clients as an opaque URL-safe string, see {@link #encode()} and
+ * {@link #decode(String)}. Only keys of the types of {@link Type} are supported, so decoding
+ * never instantiates arbitrary classes.
+ *
+ * @see SpecificationBuilder#after(KeysetCursor, Sort)
+ */
+@EqualsAndHashCode
+@ToString
+public final class KeysetCursor implements Serializable {
+
+  @Serial private static final long serialVersionUID = -2210946511907416925L;
+
+  private static final int VERSION = 1;
+
+  private final Map<String, Comparable<?>> keys;
+
+  private KeysetCursor(final Map<String, Comparable<?>> keys) {
+    this.keys = Collections.unmodifiableMap(keys);
+  }
+
+  /**
+   * Returns the cursor of the key values.
+   *
+   * @param keys values of the sort properties, including the {@code id} tie-breaker.
+   * @throws IllegalArgumentException if a value is {@code null} or of an unsupported type.
+   */
+  public static KeysetCursor of(final Map<String, ?> keys) {
+    final Map<String, Comparable<?>> values = new LinkedHashMap<>();
+    keys.forEach((property, value) -> values.put(property, checked(property, value)));
+    return new KeysetCursor(values);
+  }
+
+  /**
+   * Returns the cursor positioned at the entity, read through its getters.
+   *
+   * @param entity last entity of a page.
+   * @param sort sort of the page including its tie-breaker, the values of its properties are read.
+   * @throws IllegalArgumentException if a value is {@code null} or of an unsupported type.
+   */
+  public static KeysetCursor of(final Object entity, final Sort sort) {
+    final BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+    final Map<String, Object> keys = new LinkedHashMap<>();
+    for (final Sort.Order order : sort) {
+      keys.put(order.getProperty(), wrapper.getPropertyValue(order.getProperty()));
+    }
+    return of(keys);
+  }
+
+  /**
+   * Returns the cursor positioned at the entity, read through its getters, with the id attribute
+   * of the entity resolved from the metamodel as the tie-breaker.
+   *
+   * @param entity last entity of a page.
+   * @param sort sort of the page, the id tie-breaker is added if absent.
+   * @param metamodel metamodel of the persistence unit of the entity.
+   * @throws IllegalArgumentException if a value is {@code null} or of an unsupported type.
+   */
+  public static KeysetCursor of(final Object entity, final Sort sort, final Metamodel metamodel) {
+    return of(
+        entity,
+        KeysetSpecification.withTieBreaker(sort, metamodel.entity(Hibernate.getClass(entity))));
+  }
+
+  /**
+   * Decodes the cursor returned by {@link #encode()}.
+   *
+   * @param cursor encoded cursor.
+   * @throws IllegalArgumentException if the cursor is malformed.
+   */
+  public static KeysetCursor decode(final String cursor) {
+    try (DataInputStream in =
+        new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+      if (in.readUnsignedByte() != VERSION) {
+        throw new IllegalArgumentException("Unsupported cursor version");
+      }
+      final int size = in.readUnsignedShort();
+      final Map<String, Comparable<?>> keys = new LinkedHashMap<>();
+      for (int i = 0; i < size; i++) {
+        final String property = in.readUTF();
+        final Type type = Type.forTag(in.readChar());
+        keys.put(property, type.parse.apply(in.readUTF()));
+      }
+      if (in.available() > 0) {
+        throw new IllegalArgumentException("Trailing bytes");
+      }
+      return new KeysetCursor(keys);
+    } catch (final IOException | RuntimeException e) {
+      throw new IllegalArgumentException("Malformed cursor [" + cursor + "]", e);
+    }
+  }
+
+  /** Encodes the cursor as an opaque URL-safe string. */
+  public String encode() {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(VERSION);
+      out.writeShort(keys.size());
+      for (final Map.Entry<String, Comparable<?>> key : keys.entrySet()) {
+        out.writeUTF(key.getKey());
+        out.writeChar(Type.forValue(key.getValue()).tag);
+        out.writeUTF(key.getValue().toString());
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+  }
+
+  /**
+   * Returns the value of the sort property.
+   *
+   * @param property sort property.
+   * @throws IllegalArgumentException if the cursor has no value of the property.
+   */
+  Comparable<?> get(final String property) {
+    final Comparable<?> value = keys.get(property);
+    if (value == null) {
+      throw new IllegalArgumentException("Cursor has no value of [" + property + "]");
+    }
+    return value;
+  }
+
+  private static Comparable<?> checked(final String property, final Object value) {
+    if (value == null) {
+      throw new IllegalArgumentException("Cursor value of [" + property + "] is null");
+    }
+    Type.forValue(value);
+    return (Comparable<?>) value;
+  }
+
+  /** Types of the key values supported by the cursor. */
+  @AllArgsConstructor(access = AccessLevel.PRIVATE)
+  enum Type {
+    STRING('s', String.class, value -> value),
+    INTEGER('i', Integer.class, Integer::valueOf),
+    LONG('l', Long.class, Long::valueOf),
+    SHORT('h', Short.class, Short::valueOf),
+    BIG_DECIMAL('n', BigDecimal.class, BigDecimal::new),
+    DOUBLE('d', Double.class, Double::valueOf),
+    BOOLEAN('b', Boolean.class, Boolean::valueOf),
+    LOCAL_DATE('D', LocalDate.class, LocalDate::parse),
+    LOCAL_DATE_TIME('T', LocalDateTime.class, LocalDateTime::parse),
+    OFFSET_DATE_TIME('O', OffsetDateTime.class, OffsetDateTime::parse),
+    INSTANT('I', Instant.class, Instant::parse),
+    UUID('u', java.util.UUID.class, java.util.UUID::fromString);
+
+    private final char tag;
+    private final Class<?> javaType;
+    private final Function<String, Comparable<?>> parse;
+
+    static Type forValue(final Object value) {
+      for (final Type type : values()) {
+        if (type.javaType == value.getClass()) return type;
+      }
+      throw new IllegalArgumentException(
+          "Unsupported cursor value type [" + value.getClass().getName() + "]");
+    }
+
+    static Type forTag(final char tag) {
+      for (final Type type : values()) {
+        if (type.tag == tag) return type;
+      }
+      throw new IllegalArgumentException("Unknown cursor value type [" + tag + "]");
+    }
+  }
+}
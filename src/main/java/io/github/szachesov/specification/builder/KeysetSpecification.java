@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.IdentifiableType;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Seek predicate of keyset pagination: the rows after (or before) the cursor in the sort order,
+ * with the id attribute of the entity, resolved from the metamodel, as the tie-breaker.
+ *
+ * <p>The predicate is the expanded form of a row-value comparison, which is portable and also
+ * supports mixed sort directions, plus a bound on the first key so an index range scan can start
+ * at the cursor.
+ *
+ * <p>Example: {@code ... WHERE a >= 1 AND (a > 1 OR a = 1 AND id > 7) ...}
+ *
+ * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
+ */
+final class KeysetSpecification<T> implements Specification<T> {
+
+  @Serial private static final long serialVersionUID = 5207356914728463391L;
+
+  private final Sort sort;
+  private final KeysetCursor cursor;
+  private final boolean isBefore;
+
+  KeysetSpecification(final KeysetCursor cursor, final Sort sort, final boolean isBefore) {
+    this.sort = sort;
+    this.cursor = cursor;
+    this.isBefore = isBefore;
+  }
+
+  /**
+   * Returns the sort with the id attribute of the entity as the tie-breaker, added if absent.
+   *
+   * @param sort sort of the query.
+   * @param type entity type of the root of the query.
+   */
+  static Sort withTieBreaker(final Sort sort, final IdentifiableType<?> type) {
+    final String id = AttributeCache.idName(type);
+    return sort.getOrderFor(id) == null ? sort.and(Sort.by(id)) : sort;
+  }
+
+  @Override
+  public Predicate toPredicate(
+      @Nullable final Root<T> root,
+      @Nullable final CriteriaQuery<?> query,
+      @Nullable final CriteriaBuilder criteriaBuilder) {
+    final List<Sort.Order> orders = withTieBreaker(sort, root.getModel()).toList();
+    final List<Predicate> alternatives = new ArrayList<>(orders.size());
+    final List<Predicate> equalities = new ArrayList<>(orders.size());
+    @Nullable Predicate bound = null;
+    for (final Sort.Order order : orders) {
+      final Expression<Comparable<Object>> key = ColumnPath.of(order.getProperty()).navigate(root);
+      final Comparable<Object> value = value(order.getProperty());
+      final boolean isAscending = order.isAscending() != isBefore;
+
+      final List<Predicate> alternative = new ArrayList<>(equalities);
+      alternative.add(
+          isAscending
+              ? criteriaBuilder.greaterThan(key, value)
+              : criteriaBuilder.lessThan(key, value));
+      alternatives.add(LogicalOperator.and(alternative, criteriaBuilder));
+      equalities.add(criteriaBuilder.equal(key, value));
+      if (bound == null) {
+        bound =
+            isAscending
+                ? criteriaBuilder.greaterThanOrEqualTo(key, value)
+                : criteriaBuilder.lessThanOrEqualTo(key, value);
+      }
+    }
+    return criteriaBuilder.and(bound, criteriaBuilder.or(alternatives.toArray(Predicate[]::new)));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Comparable<Object> value(final String property) {
+    return (Comparable<Object>) cursor.get(property);
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Window of keyset pagination.
+ *
+ * @param content entities of the window in the sort order.
+ * @param next cursor of the next window, {@code null} if this window is the last one.
+ * @param <T> the type of the entities.
+ * @see SpecificationExecutors#findWindow
+ */
+public record KeysetWindow<T>(List<T> content, @Nullable KeysetCursor next) {
+
+  /** Whether there is a next window. */
+  public boolean hasNext() {
+    return next != null;
+  }
+}
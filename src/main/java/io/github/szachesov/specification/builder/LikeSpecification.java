@@ -18,52 +18,121 @@
 package io.github.szachesov.specification.builder;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import java.io.Serial;
-import java.util.List;
-import java.util.Locale;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Predicate of like.
  *
  * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
  */
+@EqualsAndHashCode(callSuper = true)
 public class LikeSpecification<T> extends CompositeSpecification<T, String> {
 
   @Serial private static final long serialVersionUID = -4074284076173199097L;
 
-  private String value;
-  private final boolean isIgnoreCase;
+  static final char ESCAPE_CHAR = '\\';
+
+  private final String value;
+  private final CaseFolding caseFolding;
   private final Wildcard wildcard;
   @Getter private final int minChar;
+  private final boolean isPrefixRange;
+  private final boolean isRawPattern;
 
   private LikeSpecification(final Builder<T> builder) {
     super(builder);
     this.value = builder.value;
-    this.isIgnoreCase = builder.isIgnoreCase;
+    this.caseFolding = builder.caseFolding;
     this.wildcard = builder.wildcard;
     this.minChar = builder.minChar;
+    this.isPrefixRange = builder.isPrefixRange;
+    this.isRawPattern = builder.isRawPattern;
   }
 
   @Override
-  Predicate toCriteriaPredicate(
-      final Root<T> root, final CriteriaQuery<?> query, final CriteriaBuilder builder) {
-    final Path<String> path = getPath(root);
-
-    final Expression<String> expression;
-    if (isIgnoreCase) {
-      expression = builder.upper(path);
-      value = value.toUpperCase(Locale.ROOT);
-    } else {
-      expression = path;
+  Predicate toCriteriaPredicate(final Path<String> path, final CriteriaBuilder builder) {
+    return toLikePredicate(path, value, caseFolding, builder);
+  }
+
+  @Override
+  @Nullable Predicate toShadowPredicate(
+      final Path<String> path, final ShadowAttribute shadow, final CriteriaBuilder builder) {
+    final String term = shadow.normalizer().normalize(value);
+    if (!shadow.reversed()) {
+      return toLikePredicate(path, term, CaseFolding.NONE, builder);
+    }
+    if (wildcard != Wildcard.LEADING || isRawPattern) return null;
+
+    final String prefix = new StringBuilder(term).reverse().toString();
+    if (isPrefixRange) {
+      return toPrefixRangePredicate(path, prefix, builder);
+    }
+    final String pattern = Wildcard.ENDING.getWithWildcard().apply(escape(prefix));
+    return CaseFolding.NONE.like(path, pattern, builder);
+  }
+
+  private Predicate toLikePredicate(
+      final Path<String> path,
+      final String term,
+      final CaseFolding folding,
+      final CriteriaBuilder builder) {
+    final boolean isLiteral = !isRawPattern || !containsWildcard(term);
+    final boolean isRangeable = isLiteral && folding != CaseFolding.ILIKE;
+    if (isPrefixRange && wildcard == Wildcard.ENDING && isRangeable) {
+      return toPrefixRangePredicate(folding.fold(path, builder), folding.fold(term), builder);
+    }
+    final String pattern = isRawPattern ? term : escape(term);
+    return folding.like(path, wildcard.getWithWildcard().apply(pattern), builder);
+  }
+
+  private static Predicate toPrefixRangePredicate(
+      final Expression<String> expression, final String prefix, final CriteriaBuilder builder) {
+    final Predicate lower = builder.greaterThanOrEqualTo(expression, prefix);
+    final String upper = nextPrefix(prefix);
+    return upper == null ? lower : builder.and(lower, builder.lessThan(expression, upper));
+  }
+
+  /**
+   * Returns the smallest string greater than every string starting with the prefix, or {@code
+   * null} if there is none. The last code point below the maximum is incremented (skipping the
+   * surrogate range) and everything after it is dropped.
+   */
+  static @Nullable String nextPrefix(final String prefix) {
+    int end = prefix.length();
+    while (end > 0) {
+      final int codePoint = prefix.codePointBefore(end);
+      final int start = end - Character.charCount(codePoint);
+      if (codePoint < Character.MAX_CODE_POINT) {
+        final int next =
+            codePoint + 1 == Character.MIN_SURROGATE ? Character.MAX_SURROGATE + 1 : codePoint + 1;
+        return prefix.substring(0, start) + Character.toString(next);
+      }
+      end = start;
+    }
+    return null;
+  }
+
+  static String escape(final String value) {
+    final StringBuilder escaped = new StringBuilder(value.length() + 4);
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if (c == '%' || c == '_' || c == ESCAPE_CHAR) {
+        escaped.append(ESCAPE_CHAR);
+      }
+      escaped.append(c);
     }
+    return escaped.toString();
+  }
 
-    return builder.like(expression, wildcard.getWithWildcard().apply(value));
+  private static boolean containsWildcard(final String value) {
+    return value.indexOf('%') >= 0 || value.indexOf('_') >= 0;
   }
 
   /**
@@ -75,18 +144,29 @@ public class LikeSpecification<T> extends CompositeSpecification<T, String> {
       implements ObjectBuilder<LikeSpecification<T>> {
 
     private final String value;
-    private boolean isIgnoreCase = true;
+    private CaseFolding caseFolding = CaseFolding.UPPER;
     private Wildcard wildcard = Wildcard.ABSENCE;
     private int minChar = 3;
+    private boolean isPrefixRange;
+    private boolean isRawPattern;
 
-    Builder(final List<String> columns, final String value) {
-      super(columns);
+    Builder(final ColumnPath columnPath, final String value) {
+      super(columnPath);
       this.value = value;
     }
 
-    /** Case-insensitive comparison. */
+    /** Case-sensitive comparison, same as {@code caseFolding(CaseFolding.NONE)}. */
     public Builder<T> noIgnoreCase() {
-      this.isIgnoreCase = false;
+      return caseFolding(CaseFolding.NONE);
+    }
+
+    /**
+     * Strategy of case-insensitive comparison, by default {@link CaseFolding#UPPER}.
+     *
+     * @see SpecificationBuilder#caseFolding(CaseFolding)
+     */
+    public Builder<T> caseFolding(final CaseFolding caseFolding) {
+      this.caseFolding = caseFolding;
       return this;
     }
 
@@ -105,6 +185,30 @@ public class LikeSpecification<T> extends CompositeSpecification<T, String> {
       return this;
     }
 
+    /**
+     * Renders a prefix search ({@link Wildcard#ENDING}) as a range, so a plain B-tree index on the
+     * column is used. Only for columns with a binary ({@code "C"}) collation, either
+     * case-sensitive ({@link #noIgnoreCase()}) or stored already normalized. A {@link
+     * #rawPattern()} containing wildcards and {@link CaseFolding#ILIKE} are still rendered as
+     * {@code LIKE}. Also applies to a suffix search on a reversed {@link ShadowAttribute}.
+     *
+     * <p>Example: {@code ... WHERE column >= 'abc' AND column < 'abd' ...}
+     */
+    public Builder<T> prefixRange() {
+      this.isPrefixRange = true;
+      return this;
+    }
+
+    /**
+     * Passes the value to {@code LIKE} as is, so {@code %} and {@code _} in it act as wildcards. By
+     * default they are escaped and matched literally. A backslash escapes the next character in
+     * both cases.
+     */
+    public Builder<T> rawPattern() {
+      this.isRawPattern = true;
+      return this;
+    }
+
     @Override
     public LikeSpecification<T> build() {
       return new LikeSpecification<>(this);
@@ -17,24 +17,45 @@
 
 package io.github.szachesov.specification.builder;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import java.util.List;
 import lombok.AllArgsConstructor;
-import org.springframework.data.jpa.domain.Specification;
 
 /** Enumeration of boolean operators for combining specifications. */
 @AllArgsConstructor
 public enum LogicalOperator {
   AND {
     @Override
-    <T> Specification<T> connect(final Specification<T> spec, final Specification<T> connect) {
-      return spec.and(connect);
+    void append(
+        final List<Predicate> conjunction,
+        final Predicate predicate,
+        final CriteriaBuilder criteriaBuilder) {
+      conjunction.add(predicate);
     }
   },
   OR {
     @Override
-    <T> Specification<T> connect(final Specification<T> spec, final Specification<T> connect) {
-      return spec.or(connect);
+    void append(
+        final List<Predicate> conjunction,
+        final Predicate predicate,
+        final CriteriaBuilder criteriaBuilder) {
+      final Predicate left = and(conjunction, criteriaBuilder);
+      conjunction.clear();
+      conjunction.add(criteriaBuilder.or(left, predicate));
     }
   };
 
-  abstract <T> Specification<T> connect(Specification<T> spec, Specification<T> connect);
+  /**
+   * Appends the predicate to the current run of AND-connected predicates, keeping the left-to-right
+   * precedence of {@code ((a AND b) OR c) AND d}.
+   */
+  abstract void append(
+      List<Predicate> conjunction, Predicate predicate, CriteriaBuilder criteriaBuilder);
+
+  static Predicate and(final List<Predicate> conjunction, final CriteriaBuilder criteriaBuilder) {
+    return conjunction.size() == 1
+        ? conjunction.getFirst()
+        : criteriaBuilder.and(conjunction.toArray(Predicate[]::new));
+  }
 }
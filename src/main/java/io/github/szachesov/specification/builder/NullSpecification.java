@@ -18,14 +18,13 @@
 package io.github.szachesov.specification.builder;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import java.io.Serial;
-import java.util.List;
+import lombok.EqualsAndHashCode;
 
 /**
  * Predicate of compare to null (IS NULL).
@@ -33,6 +32,7 @@ import java.util.List;
  * @param <T> the type of the {@link Root} the resulting {@literal Specification} operates on.
  * @param <P> target predicate type, maybe {@link Join}
  */
+@EqualsAndHashCode(callSuper = true)
 public class NullSpecification<T, P> extends CompositeSpecification<T, P> {
 
   @Serial private static final long serialVersionUID = 3240395376802943186L;
@@ -42,10 +42,7 @@ public class NullSpecification<T, P> extends CompositeSpecification<T, P> {
   }
 
   @Override
-  Predicate toCriteriaPredicate(
-      final Root<T> root, final CriteriaQuery<?> query, final CriteriaBuilder criteriaBuilder) {
-
-    final Path<?> path = getPath(root);
+  Predicate toCriteriaPredicate(final Path<P> path, final CriteriaBuilder criteriaBuilder) {
     return isNot ? path.isNotNull() : path.isNull();
   }
 
@@ -58,8 +55,8 @@ public class NullSpecification<T, P> extends CompositeSpecification<T, P> {
   public static class Builder<T, P> extends CompositeSpecification.Builder<Builder<T, P>>
       implements ObjectBuilder<NullSpecification<T, P>> {
 
-    Builder(final List<String> columns) {
-      super(columns);
+    Builder(final ColumnPath columnPath) {
+      super(columnPath);
     }
 
     @Override
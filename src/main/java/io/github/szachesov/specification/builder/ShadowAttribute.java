@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares that the string attribute has a normalized copy, usually an indexed denormalized
+ * column. {@code LIKE} and {@code =} conditions on the attribute target the copy instead, with the
+ * value normalized in Java, so callers keep using the natural attribute name.
+ *
+ * <p>A {@link #reversed()} copy holds the normalized value reversed. A {@code LIKE} with {@link
+ * Wildcard#LEADING} becomes a prefix search on it, which can use an index, so it is preferred for
+ * suffix searches. Other conditions use a copy that is not reversed.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * @ShadowAttribute("usernameNorm")
+ * private String username;
+ *
+ * private String usernameNorm;
+ * }</pre>
+ *
+ * <p>{@code ... WHERE username_norm LIKE 'jose%' ...} for the value {@code "José"}.
+ */
+@Documented
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(ShadowAttribute.List.class)
+public @interface ShadowAttribute {
+
+  /** Name of the attribute holding the normalized value, declared by the same managed type. */
+  String value();
+
+  /** Normalization of the values of conditions, the same the copy is filled with. */
+  TextNormalizer normalizer() default TextNormalizer.LOWER_UNACCENT;
+
+  /**
+   * Whether the copy holds the normalized value reversed.
+   *
+   * <p>Example: {@code ... WHERE email_reversed LIKE 'moc.elpmaxe@%' ...} for {@code ... WHERE
+   * email LIKE '%@example.com' ...}
+   */
+  boolean reversed() default false;
+
+  /** Container of repeated {@link ShadowAttribute}s. */
+  @Documented
+  @Target({ElementType.FIELD, ElementType.METHOD})
+  @Retention(RetentionPolicy.RUNTIME)
+  @interface List {
+
+    /** Declared copies. */
+    ShadowAttribute[] value();
+  }
+}
@@ -19,13 +19,16 @@ package io.github.szachesov.specification.builder;
 
 import jakarta.persistence.criteria.Root;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.LongStream;
 import lombok.NoArgsConstructor;
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 /**
  * A builder aggregating specifications describing all SQL predicates.
@@ -38,8 +41,13 @@ import org.springframework.data.jpa.domain.Specification;
 public class SpecificationBuilder<T> {
 
   private final List<CompositeSpecification<T, ?>> specifications = new ArrayList<>();
-  private final List<InnerSpecification<T>> innerSpecifications = new ArrayList<>();
-  private boolean distinct = true;
+  private final List<AggregateSpecification.Part<T>> innerSpecifications = new ArrayList<>();
+  private DistinctStrategy distinctStrategy = DistinctStrategy.AUTO;
+  private boolean isExists;
+  private boolean isNormalize = true;
+  private boolean isEmptyInMatchesNone;
+  private CaseFolding caseFolding = CaseFolding.UPPER;
+  private @Nullable FetchGraph fetchGraph;
 
   /**
    * Specify whether duplicate query results will be eliminated. A true value will cause duplicates
@@ -51,7 +59,140 @@ public class SpecificationBuilder<T> {
    *     query result or whether they must be retained
    */
   public SpecificationBuilder<T> distinct(final boolean distinct) {
-    this.distinct = distinct;
+    return distinct(distinct ? DistinctStrategy.ALWAYS : DistinctStrategy.NEVER);
+  }
+
+  /**
+   * Specify how duplicate query results will be eliminated, by default {@link
+   * DistinctStrategy#AUTO}.
+   *
+   * <p>Example: {@code SELECT DISTINCT ...}
+   *
+   * @param distinctStrategy strategy of eliminating duplicate results.
+   */
+  public SpecificationBuilder<T> distinct(final DistinctStrategy distinctStrategy) {
+    this.distinctStrategy = distinctStrategy;
+    return this;
+  }
+
+  /**
+   * Renders every condition whose path crosses a collection as a correlated {@code EXISTS}
+   * subquery instead of a join.
+   *
+   * <p>Example: {@code ... WHERE EXISTS (SELECT 1 FROM posts p WHERE p.author_id = u.id AND
+   * p.title = 'Title') ...}
+   *
+   * @see CompositeSpecification.Builder#exists()
+   */
+  public SpecificationBuilder<T> exists() {
+    this.isExists = true;
+    return this;
+  }
+
+  /**
+   * Specify whether AND-connected conditions are simplified before building: duplicates are
+   * removed, ranges on the same column are intersected into one bound or {@code BETWEEN}, and
+   * {@code IN} lists are intersected with equalities. Enabled by default.
+   *
+   * <p>Example: {@code ... WHERE column IN (1, 2, 3) AND column = 2 ...} is built as {@code ...
+   * WHERE column = 2 ...}
+   *
+   * @param normalize boolean value specifying whether conditions must be simplified.
+   */
+  public SpecificationBuilder<T> normalize(final boolean normalize) {
+    this.isNormalize = normalize;
+    return this;
+  }
+
+  /**
+   * An empty collection of {@code IN} values matches no rows instead of dropping the condition,
+   * see {@link InSpecification.Builder#emptyMatchesNone()}.
+   *
+   * <p>Example: {@code ... WHERE 1 = 0 ...}
+   */
+  public SpecificationBuilder<T> emptyInMatchesNone() {
+    this.isEmptyInMatchesNone = true;
+    return this;
+  }
+
+  /**
+   * Strategy of case-insensitive comparison, by default {@link CaseFolding#UPPER}. Applies to
+   * {@code LIKE} conditions, to the {@code LIKE} fallback of full-text search and to {@code =}
+   * conditions declared with {@link EqualsSpecification.Builder#ignoreCase()}, unless overridden
+   * per condition.
+   *
+   * <p>Example: {@code ... WHERE LOWER(column) LIKE 'will%' ...}
+   *
+   * @param caseFolding strategy matching the functional index of the columns.
+   */
+  public SpecificationBuilder<T> caseFolding(final CaseFolding caseFolding) {
+    this.caseFolding = caseFolding;
+    return this;
+  }
+
+  /**
+   * Attribute paths loaded by a fetch graph hint ({@code jakarta.persistence.fetchgraph}) instead
+   * of fetch joins, see {@link #fetchGraph(EntityGraphType, String...)}.
+   *
+   * @param paths dotted attribute paths, e.g. {@code posts.tags}.
+   */
+  public SpecificationBuilder<T> fetchGraph(final String... paths) {
+    return fetchGraph(EntityGraphType.FETCH, paths);
+  }
+
+  /**
+   * Attribute paths loaded by an entity graph hint instead of fetch joins. The paths do not join
+   * the conditions, so they do not multiply the rows or require {@code SELECT DISTINCT}.
+   *
+   * <p>The hint is applied by {@link SpecificationExecutors}, the repository query methods of
+   * {@link JpaSpecificationExecutor} ignore it. {@code SpecificationExecutors.findAllByIds} and
+   * {@code SpecificationExecutors.findWindow} apply both types, the unpaged {@code findAll}
+   * applies only {@link EntityGraphType#FETCH} and the paged one rejects entity graphs.
+   *
+   * @param type type of the graph hint.
+   * @param paths dotted attribute paths, e.g. {@code posts.tags}.
+   * @see FetchGraph
+   */
+  public SpecificationBuilder<T> fetchGraph(final EntityGraphType type, final String... paths) {
+    this.fetchGraph = new FetchGraph(List.of(paths), type);
+    return this;
+  }
+
+  /**
+   * Rows after the cursor in the sort order, for keyset pagination without {@code OFFSET}. The id
+   * attribute of the entity, resolved from the metamodel, is the tie-breaker if the sort does not
+   * contain it. Sort keys must not be {@code null}. A {@code null} cursor, the first window, adds
+   * no condition.
+   *
+   * <p>Example: {@code ... WHERE created_at <= ?1 AND (created_at < ?1 OR created_at = ?1 AND id >
+   * ?2) ...} for {@code Sort.by(DESC, "createdAt")}
+   *
+   * @param cursor position of the last row of the previous window.
+   * @param sort sort of the query.
+   * @see SpecificationExecutors#findWindow
+   */
+  public SpecificationBuilder<T> after(final @Nullable KeysetCursor cursor, final Sort sort) {
+    return keyset(cursor, sort, false);
+  }
+
+  /**
+   * Rows before the cursor in the sort order, for keyset pagination backwards. Query them in the
+   * reversed sort order, see {@link #after(KeysetCursor, Sort)}.
+   *
+   * @param cursor position of the first row of the next window.
+   * @param sort sort of the query.
+   */
+  public SpecificationBuilder<T> before(final @Nullable KeysetCursor cursor, final Sort sort) {
+    return keyset(cursor, sort, true);
+  }
+
+  private SpecificationBuilder<T> keyset(
+      final @Nullable KeysetCursor cursor, final Sort sort, final boolean isBefore) {
+    if (cursor == null) return this;
+
+    innerSpecifications.add(
+        new AggregateSpecification.Part<>(
+            new KeysetSpecification<>(cursor, sort, isBefore), LogicalOperator.AND));
     return this;
   }
 
@@ -88,8 +229,7 @@ public class SpecificationBuilder<T> {
   public SpecificationBuilder<T> inner(
       final Specification<T> spec, final LogicalOperator operator) {
     if (spec == null) return this;
-    final InnerSpecification<T> inner = new InnerSpecification<>(spec, operator);
-    innerSpecifications.add(inner);
+    innerSpecifications.add(new AggregateSpecification.Part<>(spec, operator));
     return this;
   }
 
@@ -130,7 +270,7 @@ public class SpecificationBuilder<T> {
       final String column,
       final Object value,
       final Function<EqualsSpecification.Builder<T>, ObjectBuilder<EqualsSpecification<T>>> fn) {
-    return equal(splitColumn(column), value, fn);
+    return equal(ColumnPath.of(column), value, fn);
   }
 
   /**
@@ -158,10 +298,20 @@ public class SpecificationBuilder<T> {
       final List<String> columns,
       final Object value,
       final Function<EqualsSpecification.Builder<T>, ObjectBuilder<EqualsSpecification<T>>> fn) {
+    return equal(ColumnPath.of(columns), value, fn);
+  }
+
+  private SpecificationBuilder<T> equal(
+      final ColumnPath columnPath,
+      final Object value,
+      final Function<EqualsSpecification.Builder<T>, ObjectBuilder<EqualsSpecification<T>>> fn) {
     if (value == null) return this;
 
     final EqualsSpecification<T> spec =
-        fn.apply(new EqualsSpecification.Builder<>(columns, value)).build();
+        fn.apply(
+                new EqualsSpecification.Builder<T>(columnPath, value)
+                    .ignoreCaseFolding(caseFolding))
+            .build();
     specifications.add(spec);
     return this;
   }
@@ -191,7 +341,7 @@ public class SpecificationBuilder<T> {
       final String column,
       final Collection<V> values,
       final Function<InSpecification.Builder<T, V>, ObjectBuilder<InSpecification<T, V>>> fn) {
-    return in(splitColumn(column), values, fn);
+    return in(ColumnPath.of(column), values, fn);
   }
 
   /**
@@ -219,12 +369,209 @@ public class SpecificationBuilder<T> {
       final List<String> columns,
       final Collection<V> values,
       final Function<InSpecification.Builder<T, V>, ObjectBuilder<InSpecification<T, V>>> fn) {
-    if (values == null || values.isEmpty()) {
-      return this;
+    return in(ColumnPath.of(columns), values, fn);
+  }
+
+  /**
+   * Equal to one of multiple integral values, kept unboxed until they are bound.
+   *
+   * <p>Example: {@code WHERE column IN (101, 103, 209)...}
+   *
+   * @param column column name of an integral attribute.
+   * @param values values of predicate.
+   */
+  public SpecificationBuilder<T> in(final String column, final long[] values) {
+    return in(column, values, InSpecification.Builder::self);
+  }
+
+  /**
+   * Equal to one of multiple integral values, kept unboxed until they are bound.
+   *
+   * <p>Example: {@code WHERE column IN (101, 103, 209)...}
+   *
+   * @param column column name of an integral attribute.
+   * @param values values of predicate.
+   * @param fn function of the builder of additional predicate parameters.
+   */
+  public SpecificationBuilder<T> in(
+      final String column,
+      final long[] values,
+      final Function<
+              InSpecification.Builder<T, Number>, ObjectBuilder<InSpecification<T, Number>>>
+          fn) {
+    if (values == null) return this;
+    return in(ColumnPath.of(column), IntegralValues.copyOf(values), fn);
+  }
+
+  /**
+   * Equal to one of multiple integral values, kept unboxed until they are bound.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE table_join.column IN (101, 103, 209)...}
+   *
+   * @param columns join column names are listed before the target one.
+   * @param values values of predicate.
+   */
+  public SpecificationBuilder<T> in(final List<String> columns, final long[] values) {
+    return in(columns, values, InSpecification.Builder::self);
+  }
+
+  /**
+   * Equal to one of multiple integral values, kept unboxed until they are bound.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE table_join.column IN (101, 103, 209)...}
+   *
+   * @param columns join column names are listed before the target one.
+   * @param values values of predicate.
+   * @param fn function of the builder of additional predicate parameters.
+   */
+  public SpecificationBuilder<T> in(
+      final List<String> columns,
+      final long[] values,
+      final Function<
+              InSpecification.Builder<T, Number>, ObjectBuilder<InSpecification<T, Number>>>
+          fn) {
+    if (values == null) return this;
+    return in(ColumnPath.of(columns), IntegralValues.copyOf(values), fn);
+  }
+
+  /**
+   * Equal to one of multiple integral values, kept unboxed until they are bound.
+   *
+   * <p>Example: {@code WHERE column IN (101, 103, 209)...}
+   *
+   * @param column column name of an integral attribute.
+   * @param values values of predicate.
+   */
+  public SpecificationBuilder<T> in(final String column, final int[] values) {
+    return in(column, values, InSpecification.Builder::self);
+  }
+
+  /**
+   * Equal to one of multiple integral values, kept unboxed until they are bound.
+   *
+   * <p>Example: {@code WHERE column IN (101, 103, 209)...}
+   *
+   * @param column column name of an integral attribute.
+   * @param values values of predicate.
+   * @param fn function of the builder of additional predicate parameters.
+   */
+  public SpecificationBuilder<T> in(
+      final String column,
+      final int[] values,
+      final Function<
+              InSpecification.Builder<T, Number>, ObjectBuilder<InSpecification<T, Number>>>
+          fn) {
+    if (values == null) return this;
+    return in(ColumnPath.of(column), IntegralValues.of(values), fn);
+  }
+
+  /**
+   * Equal to one of multiple integral values, kept unboxed until they are bound.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE table_join.column IN (101, 103, 209)...}
+   *
+   * @param columns join column names are listed before the target one.
+   * @param values values of predicate.
+   */
+  public SpecificationBuilder<T> in(final List<String> columns, final int[] values) {
+    return in(columns, values, InSpecification.Builder::self);
+  }
+
+  /**
+   * Equal to one of multiple integral values, kept unboxed until they are bound.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE table_join.column IN (101, 103, 209)...}
+   *
+   * @param columns join column names are listed before the target one.
+   * @param values values of predicate.
+   * @param fn function of the builder of additional predicate parameters.
+   */
+  public SpecificationBuilder<T> in(
+      final List<String> columns,
+      final int[] values,
+      final Function<
+              InSpecification.Builder<T, Number>, ObjectBuilder<InSpecification<T, Number>>>
+          fn) {
+    if (values == null) return this;
+    return in(ColumnPath.of(columns), IntegralValues.of(values), fn);
+  }
+
+  /**
+   * Equal to one of multiple integral values, kept unboxed until they are bound.
+   *
+   * <p>Example: {@code WHERE column IN (101, 103, 209)...}
+   *
+   * @param column column name of an integral attribute.
+   * @param values values of predicate.
+   */
+  public SpecificationBuilder<T> in(final String column, final LongStream values) {
+    return in(column, values, InSpecification.Builder::self);
+  }
+
+  /**
+   * Equal to one of multiple integral values, kept unboxed until they are bound.
+   *
+   * <p>Example: {@code WHERE column IN (101, 103, 209)...}
+   *
+   * @param column column name of an integral attribute.
+   * @param values values of predicate.
+   * @param fn function of the builder of additional predicate parameters.
+   */
+  public SpecificationBuilder<T> in(
+      final String column,
+      final LongStream values,
+      final Function<
+              InSpecification.Builder<T, Number>, ObjectBuilder<InSpecification<T, Number>>>
+          fn) {
+    if (values == null) return this;
+    return in(ColumnPath.of(column), IntegralValues.of(values.toArray()), fn);
+  }
+
+  /**
+   * Equal to one of multiple integral values, kept unboxed until they are bound.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE table_join.column IN (101, 103, 209)...}
+   *
+   * @param columns join column names are listed before the target one.
+   * @param values values of predicate.
+   */
+  public SpecificationBuilder<T> in(final List<String> columns, final LongStream values) {
+    return in(columns, values, InSpecification.Builder::self);
+  }
+
+  /**
+   * Equal to one of multiple integral values, kept unboxed until they are bound.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE table_join.column IN (101, 103, 209)...}
+   *
+   * @param columns join column names are listed before the target one.
+   * @param values values of predicate.
+   * @param fn function of the builder of additional predicate parameters.
+   */
+  public SpecificationBuilder<T> in(
+      final List<String> columns,
+      final LongStream values,
+      final Function<
+              InSpecification.Builder<T, Number>, ObjectBuilder<InSpecification<T, Number>>>
+          fn) {
+    if (values == null) return this;
+    return in(ColumnPath.of(columns), IntegralValues.of(values.toArray()), fn);
+  }
+
+  private <V> SpecificationBuilder<T> in(
+      final ColumnPath columnPath,
+      final Collection<V> values,
+      final Function<InSpecification.Builder<T, V>, ObjectBuilder<InSpecification<T, V>>> fn) {
+    if (values == null) return this;
+
+    final InSpecification.Builder<T, V> builder =
+        new InSpecification.Builder<>(columnPath, values);
+    if (isEmptyInMatchesNone) {
+      builder.emptyMatchesNone();
     }
+    final InSpecification<T, V> spec = fn.apply(builder).build();
+    if (values.isEmpty() && !spec.isEmptyMatchesNone()) return this;
 
-    final InSpecification<T, V> spec =
-        fn.apply(new InSpecification.Builder<>(columns, values)).build();
     specifications.add(spec);
     return this;
   }
@@ -254,7 +601,7 @@ public class SpecificationBuilder<T> {
       final String column,
       final String value,
       final Function<LikeSpecification.Builder<T>, ObjectBuilder<LikeSpecification<T>>> fn) {
-    return like(splitColumn(column), value, fn);
+    return like(ColumnPath.of(column), value, fn);
   }
 
   /**
@@ -282,10 +629,18 @@ public class SpecificationBuilder<T> {
       final List<String> columns,
       final String value,
       final Function<LikeSpecification.Builder<T>, ObjectBuilder<LikeSpecification<T>>> fn) {
+    return like(ColumnPath.of(columns), value, fn);
+  }
+
+  private SpecificationBuilder<T> like(
+      final ColumnPath columnPath,
+      final String value,
+      final Function<LikeSpecification.Builder<T>, ObjectBuilder<LikeSpecification<T>>> fn) {
     if (value == null || value.isBlank()) return this;
 
     final LikeSpecification<T> spec =
-        fn.apply(new LikeSpecification.Builder<>(columns, value)).build();
+        fn.apply(new LikeSpecification.Builder<T>(columnPath, value).caseFolding(caseFolding))
+            .build();
 
     final String trimValue = value.trim();
     if (trimValue.length() < spec.getMinChar()) {
@@ -296,6 +651,81 @@ public class SpecificationBuilder<T> {
     return this;
   }
 
+  /**
+   * Full-text search of the words of the value.
+   *
+   * <p>Example: {@code ... WHERE to_tsvector('simple', column) @@ plainto_tsquery('simple', 'spring
+   * data')...}
+   *
+   * @param column column name.
+   * @param value value of predicate.
+   */
+  public SpecificationBuilder<T> search(final String column, final String value) {
+    return search(column, value, FullTextSpecification.Builder::self);
+  }
+
+  /**
+   * Full-text search of the words of the value.
+   *
+   * <p>Example: {@code ... WHERE to_tsvector('simple', column) @@ plainto_tsquery('simple', 'spring
+   * data')...}
+   *
+   * @param column column name.
+   * @param value value of predicate.
+   * @param fn function of the builder of additional predicate parameters.
+   */
+  public SpecificationBuilder<T> search(
+      final String column,
+      final String value,
+      final Function<FullTextSpecification.Builder<T>, ObjectBuilder<FullTextSpecification<T>>>
+          fn) {
+    return search(ColumnPath.of(column), value, fn);
+  }
+
+  /**
+   * Full-text search of the words of the value.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE to_tsvector('simple',
+   * table_join.column) @@ plainto_tsquery('simple', 'spring data')...}
+   *
+   * @param columns join column names are listed before the target one.
+   * @param value value of predicate.
+   */
+  public SpecificationBuilder<T> search(final List<String> columns, final String value) {
+    return search(columns, value, FullTextSpecification.Builder::self);
+  }
+
+  /**
+   * Full-text search of the words of the value.
+   *
+   * <p>Example: {@code ... LEFT JOIN table_join ... WHERE to_tsvector('simple',
+   * table_join.column) @@ plainto_tsquery('simple', 'spring data')...}
+   *
+   * @param columns join column names are listed before the target one.
+   * @param value value of predicate.
+   * @param fn function of the builder of additional predicate parameters.
+   */
+  public SpecificationBuilder<T> search(
+      final List<String> columns,
+      final String value,
+      final Function<FullTextSpecification.Builder<T>, ObjectBuilder<FullTextSpecification<T>>>
+          fn) {
+    return search(ColumnPath.of(columns), value, fn);
+  }
+
+  private SpecificationBuilder<T> search(
+      final ColumnPath columnPath,
+      final String value,
+      final Function<FullTextSpecification.Builder<T>, ObjectBuilder<FullTextSpecification<T>>>
+          fn) {
+    if (value == null || value.isBlank()) return this;
+
+    specifications.add(
+        fn.apply(new FullTextSpecification.Builder<T>(columnPath, value).caseFolding(caseFolding))
+            .build());
+    return this;
+  }
+
   // Comparison: BETWEEN, >, <, >=, <=
 
   /**
@@ -467,7 +897,7 @@ public class SpecificationBuilder<T> {
    */
   public <P extends Comparable<? super P>> SpecificationBuilder<T> between(
       final String column, @Nullable final P min, @Nullable final P max) {
-    return between(splitColumn(column), min, max, ComparisonSpecification.Builder::self);
+    return between(ColumnPath.of(column), min, max, ComparisonSpecification.Builder::self);
   }
 
   /**
@@ -492,7 +922,7 @@ public class SpecificationBuilder<T> {
       @Nullable final P max,
       final Function<ComparisonSpecification.Builder<T, P>, ComparisonSpecification.Builder<T, P>>
           fn) {
-    return between(splitColumn(column), min, max, fn);
+    return between(ColumnPath.of(column), min, max, fn);
   }
 
   /**
@@ -539,8 +969,17 @@ public class SpecificationBuilder<T> {
       @Nullable final P max,
       final Function<ComparisonSpecification.Builder<T, P>, ComparisonSpecification.Builder<T, P>>
           fn) {
+    return between(ColumnPath.of(columns), min, max, fn);
+  }
+
+  private <P extends Comparable<? super P>> SpecificationBuilder<T> between(
+      final ColumnPath columnPath,
+      @Nullable final P min,
+      @Nullable final P max,
+      final Function<ComparisonSpecification.Builder<T, P>, ComparisonSpecification.Builder<T, P>>
+          fn) {
     final ComparisonSpecification.Builder<T, P> builder =
-        fn.apply(new ComparisonSpecification.Builder<>(columns, min, max));
+        fn.apply(new ComparisonSpecification.Builder<>(columnPath, min, max));
 
     if (builder.isEmptyValues()) return this;
     specifications.addAll(builder.build());
@@ -606,7 +1045,7 @@ public class SpecificationBuilder<T> {
       final String column,
       final boolean active,
       final Function<NullSpecification.Builder<T, P>, ObjectBuilder<NullSpecification<T, P>>> fn) {
-    return isNull(splitColumn(column), active, fn);
+    return isNull(ColumnPath.of(column), active, fn);
   }
 
   /**
@@ -645,37 +1084,57 @@ public class SpecificationBuilder<T> {
       final List<String> columns,
       final Boolean active,
       final Function<NullSpecification.Builder<T, P>, ObjectBuilder<NullSpecification<T, P>>> fn) {
+    return isNull(ColumnPath.of(columns), active, fn);
+  }
+
+  private <P> SpecificationBuilder<T> isNull(
+      final ColumnPath columnPath,
+      final Boolean active,
+      final Function<NullSpecification.Builder<T, P>, ObjectBuilder<NullSpecification<T, P>>> fn) {
     if (!Boolean.TRUE.equals(active)) {
       return this;
     }
 
-    final NullSpecification<T, P> spec = fn.apply(new NullSpecification.Builder<>(columns)).build();
+    final NullSpecification<T, P> spec =
+        fn.apply(new NullSpecification.Builder<>(columnPath)).build();
 
     specifications.add(spec);
     return this;
   }
 
-  private List<String> splitColumn(final String column) {
-    return Arrays.asList(column.split("\\."));
+  List<ColumnPath> getColumnPaths() {
+    final List<ColumnPath> columnPaths = new ArrayList<>(specifications.size());
+    for (final CompositeSpecification<T, ?> spec : specifications) {
+      columnPaths.add(spec.columnPath);
+    }
+    return columnPaths;
   }
 
   /** Builds a {@link Specification}. */
   public Specification<T> build() {
-    Specification<T> compositeSpec = Specification.unrestricted();
-    if (specifications.isEmpty() && innerSpecifications.isEmpty()) {
-      return compositeSpec;
+    if (specifications.isEmpty() && innerSpecifications.isEmpty() && fetchGraph == null) {
+      return Specification.unrestricted();
     }
 
-    for (final CompositeSpecification<T, ?> spec : specifications) {
-      spec.setDistinct(distinct);
-      compositeSpec = spec.connection.connect(compositeSpec, spec);
+    if (isExists) {
+      for (final CompositeSpecification<T, ?> spec : specifications) {
+        spec.setExists(true);
+      }
     }
-    for (final InnerSpecification<T> inner : innerSpecifications) {
-      compositeSpec = inner.operator.connect(compositeSpec, inner.spec);
+    final List<AggregateSpecification.Part<T>> parts =
+        new ArrayList<>(specifications.size() + innerSpecifications.size());
+    if (SpecificationNormalizer.isUnsatisfiable(specifications)) {
+      parts.add(
+          new AggregateSpecification.Part<>(AggregateSpecification.none(), LogicalOperator.AND));
+    } else {
+      final List<CompositeSpecification<T, ?>> specs =
+          isNormalize ? SpecificationNormalizer.normalize(specifications) : specifications;
+      for (final CompositeSpecification<T, ?> spec : specs) {
+        parts.add(new AggregateSpecification.Part<>(spec, spec.connection));
+      }
     }
+    parts.addAll(innerSpecifications);
 
-    return compositeSpec;
+    return new AggregateSpecification<>(parts, fetchGraph, distinctStrategy);
   }
-
-  private record InnerSpecification<T>(Specification<T> spec, LogicalOperator operator) {}
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+/**
+ * Repository helpers that skip the database round trip for specifications that can never match.
+ *
+ * <p>Example: {@code SpecificationExecutors.findAll(repository, spec, pageable)} returns an empty
+ * page with total 0 for {@code ... WHERE column = 1 AND column = 2 ...}.
+ */
+@UtilityClass
+public class SpecificationExecutors {
+
+  /**
+   * Checks whether the specification was built by {@link SpecificationBuilder} and can never
+   * match, e.g. contradicting equalities, an empty range or an empty {@code IN} list matching no
+   * rows.
+   *
+   * @param spec specification to check.
+   */
+  public static boolean isUnsatisfiable(final Specification<?> spec) {
+    return spec instanceof AggregateSpecification<?> aggregate && aggregate.isUnsatisfiable();
+  }
+
+  /**
+   * Returns the entity graph of a specification built with {@link
+   * SpecificationBuilder#fetchGraph(String...)}, {@code null} if it has none.
+   *
+   * @param spec specification of the query.
+   */
+  public static @Nullable FetchGraph fetchGraph(final Specification<?> spec) {
+    return spec instanceof AggregateSpecification<?> aggregate ? aggregate.getFetchGraph() : null;
+  }
+
+  /**
+   * Returns all entities matching the specification, or an empty list without a query. The
+   * entity graph of the specification is applied as a fetch graph.
+   *
+   * @param executor repository executing the specification.
+   * @param spec specification of the query.
+   * @throws IllegalArgumentException if the entity graph is a {@link EntityGraphType#LOAD} graph.
+   */
+  public static <T> List<T> findAll(
+      final JpaSpecificationExecutor<T> executor, final Specification<T> spec) {
+    if (isUnsatisfiable(spec)) return List.of();
+
+    final FetchGraph graph = fetchGraph(spec);
+    if (graph == null) return executor.findAll(spec);
+    if (graph.type() == EntityGraphType.LOAD) {
+      throw new IllegalArgumentException(
+          "A load graph is applied by findAllByIds and findWindow, fluent queries support only"
+              + " fetch graphs: "
+              + graph);
+    }
+    return executor.findBy(spec, query -> query.project(graph.paths()).all());
+  }
+
+  /**
+   * Returns a page of entities matching the specification, or an empty page with total 0 without
+   * a query.
+   *
+   * <p>A specification with an entity graph is rejected: a graph of a collection would make the
+   * persistence provider load all matching rows and paginate in memory, and the repository gives
+   * no metamodel to tell it from a graph of to-one associations. Such a page is loaded by {@link
+   * #findAllByIds(EntityManager, Class, Specification, Pageable)}.
+   *
+   * @param executor repository executing the specification.
+   * @param spec specification of the query.
+   * @param pageable pagination information.
+   * @throws IllegalArgumentException if the specification has an entity graph.
+   */
+  public static <T> Page<T> findAll(
+      final JpaSpecificationExecutor<T> executor,
+      final Specification<T> spec,
+      final Pageable pageable) {
+    if (fetchGraph(spec) != null) {
+      throw new IllegalArgumentException(
+          "A page with an entity graph is loaded by findAllByIds: " + fetchGraph(spec));
+    }
+    if (isUnsatisfiable(spec)) return Page.empty(pageable);
+
+    return executor.findAll(spec, pageable);
+  }
+
+  /**
+   * Returns a page of entities matching the specification in two queries, or an empty page with
+   * total 0 without a query. The first query selects only the distinct ids of the page with the
+   * conditions, the sort, the offset and the limit applied by the database. The second one loads
+   * the entities of these ids with the fetch joins and the entity graph of the specification, in
+   * the order of the ids.
+   *
+   * <p>Unlike {@link #findAll(JpaSpecificationExecutor, Specification, Pageable)} with a fetch
+   * join of a collection, the persistence provider does not load all matching rows to paginate
+   * in memory, so the memory is bounded by the page size. The sort keys must belong to the root
+   * or its to-one associations.
+   *
+   * @param entityManager entity manager executing the queries.
+   * @param domainClass root entity of the query.
+   * @param spec specification of the query, usually built by {@link SpecificationBuilder}.
+   * @param pageable pagination information.
+   */
+  public static <T> Page<T> findAllByIds(
+      final EntityManager entityManager,
+      final Class<T> domainClass,
+      final Specification<T> spec,
+      final Pageable pageable) {
+    if (isUnsatisfiable(spec)) return Page.empty(pageable);
+
+    return new TwoPhasePageQuery<>(entityManager, domainClass, spec).execute(pageable);
+  }
+
+  /**
+   * Returns a window of keyset pagination: up to the page size of entities in the sort of the
+   * pageable, with the id attribute of the entity resolved from the metamodel and added as the
+   * tie-breaker if absent, and the cursor of the next window. The window is loaded in two queries
+   * like {@link #findAllByIds(EntityManager, Class, Specification, Pageable)}, so fetch joins and
+   * entity graphs of collections are not paginated in memory. There is no {@code OFFSET} and no
+   * count query, so every window costs the same as the first one.
+   *
+   * <p>The next window is requested with a specification built with {@link
+   * SpecificationBuilder#after(KeysetCursor, Sort)} of the returned cursor and the same sort.
+   *
+   * @param entityManager entity manager executing the queries.
+   * @param domainClass root entity of the query.
+   * @param spec specification of the query.
+   * @param pageable size and sort of the window, its offset must be 0.
+   * @throws IllegalArgumentException if the pageable is unpaged or has an offset.
+   */
+  public static <T> KeysetWindow<T> findWindow(
+      final EntityManager entityManager,
+      final Class<T> domainClass,
+      final Specification<T> spec,
+      final Pageable pageable) {
+    if (pageable.isUnpaged() || pageable.getOffset() > 0) {
+      throw new IllegalArgumentException(
+          "A keyset window is positioned by its cursor, not an offset: " + pageable);
+    }
+    if (isUnsatisfiable(spec)) return new KeysetWindow<>(List.of(), null);
+
+    final int size = pageable.getPageSize();
+    final Sort keyset =
+        KeysetSpecification.withTieBreaker(
+            pageable.getSort(), entityManager.getMetamodel().entity(domainClass));
+    final List<T> rows =
+        new TwoPhasePageQuery<>(entityManager, domainClass, spec)
+            .findContent(PageRequest.of(0, size + 1, keyset));
+    if (rows.size() <= size) return new KeysetWindow<>(rows, null);
+
+    final List<T> content = List.copyOf(rows.subList(0, size));
+    return new KeysetWindow<>(content, KeysetCursor.of(content.getLast(), keyset));
+  }
+
+  /**
+   * Returns the number of entities matching the specification, or 0 without a query.
+   *
+   * @param executor repository executing the specification.
+   * @param spec specification of the query.
+   */
+  public static <T> long count(
+      final JpaSpecificationExecutor<T> executor, final Specification<T> spec) {
+    return isUnsatisfiable(spec) ? 0 : executor.count(spec);
+  }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.criteria.JoinType;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.experimental.UtilityClass;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Simplifies AND-connected specifications before they are assembled.
+ *
+ * <p>Specifications on the same path, join type and fetch mode are merged:
+ *
+ * <ul>
+ *   <li>duplicate specifications are removed;
+ *   <li>ranges are intersected into a single bound or an inclusive {@code BETWEEN};
+ *   <li>{@code IN} lists and equalities are intersected, and a single value is rendered as
+ *       {@code =}.
+ * </ul>
+ *
+ * <p>Specifications connected with OR are left untouched, as are specifications rendered as
+ * {@code EXISTS} subqueries (those are only deduplicated), paths whose conditions contradict each
+ * other and paths whose values are of different classes, e.g. {@code Integer} and {@code Long}.
+ * Equalities and {@code IN} lists of strings are only deduplicated, since the attribute may be
+ * matched through a {@link ShadowAttribute} resolved with the query.
+ */
+@UtilityClass
+class SpecificationNormalizer {
+
+  static <T> List<CompositeSpecification<T, ?>> normalize(
+      final List<CompositeSpecification<T, ?>> specifications) {
+    if (!isConjunction(specifications)) return specifications;
+
+    final List<CompositeSpecification<T, ?>> normalized = new ArrayList<>(specifications.size());
+    for (final Constraint<T> constraint : constrain(specifications)) {
+      normalized.addAll(constraint.toSpecifications());
+    }
+    return normalized;
+  }
+
+  /**
+   * Checks whether AND-connected specifications can never match: an empty intersection of
+   * equalities and {@code IN} lists, or an empty range on the same path.
+   */
+  static <T> boolean isUnsatisfiable(final List<CompositeSpecification<T, ?>> specifications) {
+    if (!isConjunction(specifications)) return false;
+
+    for (final Constraint<T> constraint : constrain(specifications)) {
+      if (constraint.isContradiction()) return true;
+    }
+    return false;
+  }
+
+  private static <T> Collection<Constraint<T>> constrain(
+      final List<CompositeSpecification<T, ?>> specifications) {
+    final Map<Key, Constraint<T>> constraints = new LinkedHashMap<>();
+    for (final CompositeSpecification<T, ?> spec : specifications) {
+      constraints.computeIfAbsent(Key.of(spec), key -> new Constraint<>(spec)).add(spec);
+    }
+    return constraints.values();
+  }
+
+  private static boolean isConjunction(final List<? extends CompositeSpecification<?, ?>> specs) {
+    for (final CompositeSpecification<?, ?> spec : specs) {
+      if (spec.connection != LogicalOperator.AND) return false;
+    }
+    return true;
+  }
+
+  private record Key(ColumnPath columnPath, JoinType joinType, boolean fetch, boolean exists) {
+    static Key of(final CompositeSpecification<?, ?> spec) {
+      return new Key(spec.columnPath, spec.joinType, spec.isFetch(), spec.isExists());
+    }
+  }
+
+  /**
+   * Accumulated conditions of one path.
+   *
+   * @param <T> the type of the root the specifications operate on.
+   */
+  static final class Constraint<T> {
+
+    private final CompositeSpecification<T, ?> template;
+    private final List<CompositeSpecification<T, ?>> originals = new ArrayList<>();
+    private final Set<CompositeSpecification<T, ?>> others = new LinkedHashSet<>();
+    private @Nullable InSpecification<T, ?> options;
+    private @Nullable Set<Object> values;
+    private @Nullable Comparable<Object> lower;
+    private boolean isLowerInclusive;
+    private @Nullable Comparable<Object> upper;
+    private boolean isUpperInclusive;
+    private boolean isUnmergeable;
+
+    private Constraint(final CompositeSpecification<T, ?> template) {
+      this.template = template;
+    }
+
+    private void add(final CompositeSpecification<T, ?> spec) {
+      originals.add(spec);
+      if (spec.isExists()) {
+        other(spec);
+      } else {
+        spec.constrain(this);
+      }
+    }
+
+    void other(final CompositeSpecification<T, ?> spec) {
+      others.add(spec);
+    }
+
+    void options(final InSpecification<T, ?> spec) {
+      if (options == null) {
+        options = spec;
+      }
+    }
+
+    void in(final Collection<?> in) {
+      for (final Object value : in) {
+        if (value == null || !isSameType(values == null ? in : values, value)) {
+          isUnmergeable = true;
+          return;
+        }
+      }
+      if (values == null) {
+        values = new LinkedHashSet<>(in);
+      } else {
+        values.removeIf(value -> !contains(in, value));
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    void lower(final Object value, final boolean isInclusive) {
+      if (lower != null && !isSameType(lower, value)) {
+        isUnmergeable = true;
+        return;
+      }
+      final int compare = lower == null ? -1 : lower.compareTo(value);
+      if (compare < 0 || compare == 0 && isLowerInclusive) {
+        lower = (Comparable<Object>) value;
+        isLowerInclusive = isInclusive;
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    void upper(final Object value, final boolean isInclusive) {
+      if (upper != null && !isSameType(upper, value)) {
+        isUnmergeable = true;
+        return;
+      }
+      final int compare = upper == null ? 1 : upper.compareTo(value);
+      if (compare > 0 || compare == 0 && isUpperInclusive) {
+        upper = (Comparable<Object>) value;
+        isUpperInclusive = isInclusive;
+      }
+    }
+
+    private boolean isContradiction() {
+      if (isUnmergeable) return false;
+      if (values != null) {
+        if (!isSameType(values, lower) || !isSameType(values, upper)) return false;
+        for (final Object value : values) {
+          if (isWithinLower(value) && isWithinUpper(value)) return false;
+        }
+        return true;
+      }
+      if (lower == null || upper == null || !isSameType(lower, upper)) return false;
+      final int compare = lower.compareTo(upper);
+      return compare > 0 || compare == 0 && !(isLowerInclusive && isUpperInclusive);
+    }
+
+    private List<CompositeSpecification<T, ?>> toSpecifications() {
+      if (isUnmergeable || isContradiction()) return originals;
+
+      final List<CompositeSpecification<T, ?>> specs = new ArrayList<>(others.size() + 2);
+      if (values != null) {
+        if (!isSameType(values, lower) || !isSameType(values, upper)) return originals;
+        values.removeIf(value -> !isWithinLower(value) || !isWithinUpper(value));
+        specs.add(values.size() == 1 ? toEqual(values.iterator().next()) : toIn(values));
+      } else if (lower != null && upper != null) {
+        if (!isSameType(lower, upper)) return originals;
+        specs.addAll(toRange(lower.compareTo(upper) == 0));
+      } else if (lower != null || upper != null) {
+        specs.addAll(toRange(false));
+      }
+
+      specs.addAll(others);
+      return specs;
+    }
+
+    private boolean isWithinLower(final Object value) {
+      if (lower == null) return true;
+      final int compare = lower.compareTo(value);
+      return compare < 0 || compare == 0 && isLowerInclusive;
+    }
+
+    private boolean isWithinUpper(final Object value) {
+      if (upper == null) return true;
+      final int compare = upper.compareTo(value);
+      return compare > 0 || compare == 0 && isUpperInclusive;
+    }
+
+    private CompositeSpecification<T, ?> toEqual(final Object value) {
+      return new EqualsSpecification.Builder<T>(template.columnPath, value)
+          .from(template)
+          .build();
+    }
+
+    private CompositeSpecification<T, ?> toIn(final Collection<Object> in) {
+      final InSpecification.Builder<T, Object> builder =
+          new InSpecification.Builder<T, Object>(template.columnPath, List.copyOf(in))
+              .from(template);
+      if (options != null) {
+        builder.options(options);
+      }
+      return builder.build();
+    }
+
+    private List<CompositeSpecification<T, ?>> toRange(final boolean isPoint) {
+      if (isPoint) return List.of(toEqual(lower));
+
+      final ComparisonSpecification.Builder<T, Comparable<Object>> builder =
+          new ComparisonSpecification.Builder<T, Comparable<Object>>(
+                  template.columnPath, lower, upper)
+              .from(template);
+      if (lower != null && upper != null && isLowerInclusive && isUpperInclusive) {
+        return List.of(new BetweenSpecification<>(builder));
+      }
+
+      final List<CompositeSpecification<T, ?>> specs = new ArrayList<>(2);
+      if (lower != null) {
+        specs.add(bound(isLowerInclusive).min(builder));
+      }
+      if (upper != null) {
+        specs.add(bound(isUpperInclusive).max(builder));
+      }
+      return specs;
+    }
+
+    private static Bound bound(final boolean isInclusive) {
+      return isInclusive ? Bound.INCLUSIVE : Bound.EXCLUSIVE;
+    }
+
+    /** Equality of values of the same type, {@link BigDecimal} values equal regardless of scale. */
+    private static boolean contains(final Collection<?> in, final Object value) {
+      if (!(value instanceof BigDecimal decimal)) return in.contains(value);
+      for (final Object other : in) {
+        if (decimal.compareTo((BigDecimal) other) == 0) return true;
+      }
+      return false;
+    }
+
+    private static boolean isSameType(final Object value, final Object other) {
+      return value.getClass() == other.getClass();
+    }
+
+    private static boolean isSameType(
+        final Collection<?> values, @Nullable final Object bound) {
+      if (bound == null) return true;
+      for (final Object value : values) {
+        if (!isSameType(value, bound)) return false;
+      }
+      return true;
+    }
+  }
+}
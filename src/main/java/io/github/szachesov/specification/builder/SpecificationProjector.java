@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+/**
+ * Executes specifications selecting only the chosen paths instead of whole entities. The rows are
+ * returned as {@link Tuple}s or constructor results such as records, so no entity is hydrated or
+ * registered in the persistence context, and the database may use an index-only scan.
+ *
+ * <p>Example: {@code SELECT p.title, p.word_count FROM posts p WHERE ...}
+ *
+ * <pre>{@code
+ * List<PostTitle> titles = projector.from(Post.class)
+ *     .where(spec)
+ *     .select(Post_.TITLE, Post_.WORD_COUNT)
+ *     .orderBy(Sort.by(Post_.TITLE))
+ *     .fetch(PostTitle.class);
+ * }</pre>
+ *
+ * <p>Fetch joins of the specification are rendered as plain joins. Rows multiplied by a to-many
+ * join of the conditions are collapsed by grouping by the id of the root instead of {@code SELECT
+ * DISTINCT}, so different entities with equal selected values are all returned.
+ *
+ * <p>Example: {@code SELECT u.username FROM posts p JOIN users u ... JOIN post_tags t ... WHERE
+ * t.tags IN (...) GROUP BY p.id, u.username}
+ */
+public class SpecificationProjector {
+
+  private final EntityManager entityManager;
+
+  /**
+   * Creates a projector.
+   *
+   * @param entityManager entity manager executing the queries.
+   */
+  public SpecificationProjector(final EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  /**
+   * Starts a projection of the domain class.
+   *
+   * @param domainClass root entity of the query.
+   */
+  public <T> Projection<T> from(final Class<T> domainClass) {
+    return new Projection<>(entityManager, domainClass);
+  }
+
+  /**
+   * Projection query of a specification.
+   *
+   * @param <T> the type of the {@link Root} the {@literal Specification} operates on.
+   */
+  public static final class Projection<T> {
+
+    private final EntityManager entityManager;
+    private final Class<T> domainClass;
+    private Specification<T> spec = Specification.unrestricted();
+    private List<String> paths = List.of();
+    private Sort sort = Sort.unsorted();
+    private int limit;
+
+    private Projection(final EntityManager entityManager, final Class<T> domainClass) {
+      this.entityManager = entityManager;
+      this.domainClass = domainClass;
+    }
+
+    /**
+     * Conditions of the query.
+     *
+     * @param spec specification, usually built by {@link SpecificationBuilder}.
+     */
+    public Projection<T> where(final Specification<T> spec) {
+      this.spec = spec;
+      return this;
+    }
+
+    /**
+     * Selected paths, in the order of the constructor parameters of the result.
+     *
+     * @param paths dotted paths, also the aliases of the tuple elements.
+     */
+    public Projection<T> select(final String... paths) {
+      return select(List.of(paths));
+    }
+
+    /**
+     * Selected paths, in the order of the constructor parameters of the result.
+     *
+     * @param paths dotted paths, also the aliases of the tuple elements.
+     */
+    public Projection<T> select(final List<String> paths) {
+      this.paths = List.copyOf(paths);
+      return this;
+    }
+
+    /**
+     * Order of the rows.
+     *
+     * @param sort sort of the query.
+     */
+    public Projection<T> orderBy(final Sort sort) {
+      this.sort = sort;
+      return this;
+    }
+
+    /**
+     * Maximum number of rows.
+     *
+     * @param limit maximum number of rows.
+     * @throws IllegalArgumentException if limit is less than 1.
+     */
+    public Projection<T> limit(final int limit) {
+      if (limit < 1) {
+        throw new IllegalArgumentException("Limit must be positive: " + limit);
+      }
+      this.limit = limit;
+      return this;
+    }
+
+    /**
+     * Returns the rows as tuples, elements are aliased by their paths.
+     *
+     * @throws IllegalArgumentException if no path is selected.
+     */
+    public List<Tuple> fetchTuples() {
+      final List<String> selected = selected();
+      if (SpecificationExecutors.isUnsatisfiable(spec)) return List.of();
+
+      final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+      final CriteriaQuery<Tuple> query = builder.createTupleQuery();
+      final Root<T> root = query.from(domainClass);
+      final List<Expression<?>> expressions = expressions(root, selected);
+      query.multiselect(List.<Selection<?>>copyOf(expressions));
+      return execute(query, root, expressions, builder);
+    }
+
+    /**
+     * Returns the rows as instances of the result class, created by its constructor taking the
+     * selected paths.
+     *
+     * @param resultClass result class, e.g. a record.
+     * @throws IllegalArgumentException if no path is selected.
+     */
+    public <R> List<R> fetch(final Class<R> resultClass) {
+      final List<String> selected = selected();
+      if (SpecificationExecutors.isUnsatisfiable(spec)) return List.of();
+
+      final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+      final CriteriaQuery<R> query = builder.createQuery(resultClass);
+      final Root<T> root = query.from(domainClass);
+      final List<Expression<?>> expressions = expressions(root, selected);
+      query.select(builder.construct(resultClass, expressions.toArray(Selection[]::new)));
+      return execute(query, root, expressions, builder);
+    }
+
+    private List<String> selected() {
+      if (paths.isEmpty()) {
+        throw new IllegalArgumentException("No paths selected");
+      }
+      return paths;
+    }
+
+    private static List<Expression<?>> expressions(final Root<?> root, final List<String> paths) {
+      final List<Expression<?>> expressions = new ArrayList<>(paths.size());
+      for (final String path : paths) {
+        final Expression<?> expression = ColumnPath.of(path).navigate(root);
+        expression.alias(path);
+        expressions.add(expression);
+      }
+      return expressions;
+    }
+
+    private <R> List<R> execute(
+        final CriteriaQuery<R> query,
+        final Root<T> root,
+        final List<Expression<?>> expressions,
+        final CriteriaBuilder builder) {
+      final Predicate predicate = spec.toPredicate(root, query, builder);
+      if (predicate != null) {
+        query.where(predicate);
+      }
+      final List<Order> orders = QueryUtils.toOrders(sort, root, builder);
+      if (query.isDistinct()) {
+        query.distinct(false).groupBy(grouping(root, expressions, orders));
+      }
+      if (sort.isSorted()) {
+        query.orderBy(orders);
+      }
+      final TypedQuery<R> typedQuery = entityManager.createQuery(query);
+      if (limit > 0) {
+        typedQuery.setMaxResults(limit);
+      }
+      return typedQuery.getResultList();
+    }
+
+    /**
+     * Grouping of the rows by the id of the root, so the rows multiplied by a to-many join are
+     * collapsed per root while different roots with equal values are kept.
+     */
+    private static List<Expression<?>> grouping(
+        final Root<?> root, final List<Expression<?>> expressions, final List<Order> orders) {
+      final List<Expression<?>> grouping = new ArrayList<>(expressions.size() + orders.size() + 1);
+      grouping.add(root.get(AttributeCache.idName(root.getModel())));
+      grouping.addAll(expressions);
+      for (final Order order : orders) {
+        grouping.add(order.getExpression());
+      }
+      return grouping;
+    }
+  }
+}
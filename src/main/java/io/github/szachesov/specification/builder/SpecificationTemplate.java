@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * A representative specification declared for validation and warm-up at startup.
+ *
+ * @param domainClass the type of the root entity.
+ * @param builder builder of the representative {@link Specification}.
+ * @param <T> the type of the root entity the resulting {@literal Specification} operates on.
+ * @see SpecificationValidator
+ */
+public record SpecificationTemplate<T>(Class<T> domainClass, SpecificationBuilder<T> builder) {}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Validates the column paths of {@link SpecificationTemplate}s against the JPA {@link Metamodel}
+ * and warms up the path resolution caches.
+ *
+ * <p>Allows a misspelled column to be reported at startup instead of on the first query.
+ */
+public class SpecificationValidator {
+
+  private final EntityManagerFactory entityManagerFactory;
+
+  /**
+   * Creates a validator.
+   *
+   * @param entityManagerFactory factory of the persistence unit the specifications query.
+   */
+  public SpecificationValidator(final EntityManagerFactory entityManagerFactory) {
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  /** Classifies the attributes of all managed types of the persistence unit. */
+  public void warmUp() {
+    AttributeCache.warmUp(entityManagerFactory.getMetamodel());
+  }
+
+  /**
+   * Validates the column paths of the template and caches their resolution.
+   *
+   * @param template specification template.
+   * @throws IllegalArgumentException if a column does not exist or a non-final column does not
+   *     refer to a managed type.
+   */
+  public <T> void validate(final SpecificationTemplate<T> template) {
+    final ManagedType<T> type =
+        entityManagerFactory.getMetamodel().managedType(template.domainClass());
+    for (final ColumnPath columnPath : template.builder().getColumnPaths()) {
+      final List<AttributeInfo> attributes = columnPath.resolve(type);
+      if (attributes.size() < columnPath.getColumns().size()) {
+        throw new IllegalArgumentException(
+            "Unable to resolve column ["
+                + columnPath
+                + "] on ["
+                + template.domainClass().getName()
+                + "]: ["
+                + attributes.get(attributes.size() - 1).name()
+                + "] is not a managed type");
+      }
+    }
+  }
+
+  /**
+   * Translates the select and count queries of the template without executing them, so that a
+   * condition the persistence provider rejects is reported at startup. Criteria queries are not
+   * kept in the query plan cache of the provider, so the translation validates the queries but
+   * does not make the first request faster.
+   *
+   * @param template specification template.
+   * @throws IllegalArgumentException if the provider rejects a query.
+   */
+  public <T> void translate(final SpecificationTemplate<T> template) {
+    final Specification<T> spec = template.builder().build();
+    final EntityManager entityManager = entityManagerFactory.createEntityManager();
+    try {
+      final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+
+      final CriteriaQuery<T> query = builder.createQuery(template.domainClass());
+      final Root<T> root = query.from(template.domainClass());
+      where(query, spec.toPredicate(root, query, builder));
+      entityManager.createQuery(query);
+
+      final CriteriaQuery<Long> countQuery = builder.createQuery(Long.class);
+      final Root<T> countRoot = countQuery.from(template.domainClass());
+      where(countQuery, spec.toPredicate(countRoot, countQuery, builder));
+      countQuery.select(
+          countQuery.isDistinct() ? builder.countDistinct(countRoot) : builder.count(countRoot));
+      entityManager.createQuery(countQuery);
+    } finally {
+      entityManager.close();
+    }
+  }
+
+  private static void where(final CriteriaQuery<?> query, @Nullable final Predicate predicate) {
+    if (predicate != null) {
+      query.where(predicate);
+    }
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Enumeration of normalizations of text, applied in Java to the values of conditions on a {@link
+ * ShadowAttribute}.
+ */
+public enum TextNormalizer {
+  /** Converts to lower case: {@code "Café"} to {@code "café"}. */
+  LOWER {
+    @Override
+    public String normalize(final String value) {
+      return value.toLowerCase(Locale.ROOT);
+    }
+  },
+  /** Converts to upper case: {@code "Café"} to {@code "CAFÉ"}. */
+  UPPER {
+    @Override
+    public String normalize(final String value) {
+      return value.toUpperCase(Locale.ROOT);
+    }
+  },
+  /** Strips diacritical marks and converts to lower case: {@code "Café"} to {@code "cafe"}. */
+  LOWER_UNACCENT {
+    @Override
+    public String normalize(final String value) {
+      final String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+      return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+  };
+
+  private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+  /**
+   * Returns the normalized value.
+   *
+   * @param value value of a condition.
+   */
+  public abstract String normalize(String value);
+}
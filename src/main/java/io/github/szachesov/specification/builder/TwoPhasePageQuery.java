@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceUnitUtil;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * Page query in two phases: the distinct ids of the page are selected first with the conditions,
+ * the sort, the offset and the limit applied by the database, then the entities of these ids are
+ * loaded with the fetch joins and the entity graph of the specification and returned in the order
+ * of the ids.
+ *
+ * <p>Example: {@code SELECT DISTINCT u.id, u.username FROM users u JOIN posts p ... ORDER BY
+ * u.username OFFSET 20 ROWS FETCH FIRST 10 ROWS ONLY}, then {@code SELECT u, p FROM users u JOIN
+ * FETCH posts p ... WHERE ... AND u.id IN (...)}.
+ *
+ * @param <T> the type of the {@link Root} the {@literal Specification} operates on.
+ */
+final class TwoPhasePageQuery<T> {
+
+  private final EntityManager entityManager;
+  private final Class<T> domainClass;
+  private final Specification<T> spec;
+
+  TwoPhasePageQuery(
+      final EntityManager entityManager,
+      final Class<T> domainClass,
+      final Specification<T> spec) {
+    this.entityManager = entityManager;
+    this.domainClass = domainClass;
+    this.spec = spec;
+  }
+
+  Page<T> execute(final Pageable pageable) {
+    return PageableExecutionUtils.getPage(findContent(pageable), pageable, this::count);
+  }
+
+  /**
+   * Returns the entities of the page without counting them.
+   *
+   * @param pageable pagination information.
+   */
+  List<T> findContent(final Pageable pageable) {
+    final List<Object> ids = findIds(pageable);
+    return ids.isEmpty() ? List.of() : findByIds(ids);
+  }
+
+  private List<Object> findIds(final Pageable pageable) {
+    final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<Tuple> query = builder.createTupleQuery();
+    final Root<T> root = query.from(domainClass);
+    where(query, spec.toPredicate(root, query, builder));
+
+    final List<Order> orders = QueryUtils.toOrders(pageable.getSort(), root, builder);
+    final List<Selection<?>> selections = new ArrayList<>(orders.size() + 1);
+    selections.add(id(root));
+    for (final Order order : orders) {
+      selections.add(order.getExpression());
+    }
+    query.multiselect(selections).orderBy(orders).distinct(true);
+
+    final TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+    if (pageable.isPaged()) {
+      typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+      typedQuery.setMaxResults(pageable.getPageSize());
+    }
+    return typedQuery.getResultList().stream().map(tuple -> tuple.get(0)).toList();
+  }
+
+  private List<T> findByIds(final List<Object> ids) {
+    final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<T> query = builder.createQuery(domainClass);
+    final Root<T> root = query.from(domainClass);
+    final Predicate predicate = spec.toPredicate(root, query, builder);
+    final Predicate in = id(root).in(ids);
+    query.where(predicate == null ? in : builder.and(predicate, in));
+
+    final TypedQuery<T> typedQuery = entityManager.createQuery(query);
+    final FetchGraph graph = SpecificationExecutors.fetchGraph(spec);
+    if (graph != null) {
+      typedQuery.setHint(graph.type().getKey(), graph.toEntityGraph(entityManager, domainClass));
+    }
+    final PersistenceUnitUtil util =
+        entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+    final Map<Object, T> entities = new HashMap<>();
+    for (final T entity : typedQuery.getResultList()) {
+      entities.putIfAbsent(util.getIdentifier(entity), entity);
+    }
+    return ids.stream().map(entities::get).filter(Objects::nonNull).toList();
+  }
+
+  private long count() {
+    final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<Long> query = builder.createQuery(Long.class);
+    final Root<T> root = query.from(domainClass);
+    where(query, spec.toPredicate(root, query, builder));
+    query.select(isMultiplied(query, root) ? builder.countDistinct(root) : builder.count(root));
+    return entityManager.createQuery(query).getSingleResult();
+  }
+
+  /**
+   * Whether the rows may repeat the root. The ids are selected distinct whatever the {@link
+   * DistinctStrategy} of the specification, so the count follows them whenever the root is joined,
+   * fetch joins included since they are rendered as plain joins in the count query.
+   */
+  private static boolean isMultiplied(final CriteriaQuery<?> query, final Root<?> root) {
+    return query.isDistinct() || !root.getJoins().isEmpty();
+  }
+
+  private static Path<Object> id(final Root<?> root) {
+    return root.get(AttributeCache.idName(root.getModel()));
+  }
+
+  private static void where(final CriteriaQuery<?> query, @Nullable final Predicate predicate) {
+    if (predicate != null) {
+      query.where(predicate);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder.autoconfigure;
+
+import io.github.szachesov.specification.builder.SpecificationTemplate;
+import io.github.szachesov.specification.builder.SpecificationValidator;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Validates the declared {@link SpecificationTemplate} beans against the JPA metamodel at startup
+ * and warms up the path resolution caches before the application accepts traffic.
+ *
+ * <p>Enabled by {@code specification.builder.validation.enabled=true}.
+ */
+@AutoConfiguration(
+    afterName = "org.springframework.boot.hibernate.autoconfigure.HibernateJpaAutoConfiguration")
+@ConditionalOnBean(EntityManagerFactory.class)
+@ConditionalOnProperty(prefix = "specification.builder.validation", name = "enabled")
+@EnableConfigurationProperties(SpecificationValidationProperties.class)
+public class SpecificationValidationAutoConfiguration {
+
+  @Bean
+  SpecificationValidationInitializer specificationValidationInitializer(
+      final EntityManagerFactory entityManagerFactory,
+      final ObjectProvider<SpecificationTemplate<?>> templates,
+      final SpecificationValidationProperties properties) {
+    return new SpecificationValidationInitializer(
+        new SpecificationValidator(entityManagerFactory), templates, properties);
+  }
+}
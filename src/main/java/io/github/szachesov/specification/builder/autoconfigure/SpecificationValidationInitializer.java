@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder.autoconfigure;
+
+import io.github.szachesov.specification.builder.SpecificationTemplate;
+import io.github.szachesov.specification.builder.SpecificationValidator;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+/**
+ * Validates the templates once all singletons are created, so a failure aborts the startup.
+ */
+@Slf4j
+@AllArgsConstructor
+class SpecificationValidationInitializer implements SmartInitializingSingleton {
+
+  private final SpecificationValidator validator;
+  private final ObjectProvider<SpecificationTemplate<?>> templates;
+  private final SpecificationValidationProperties properties;
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    validator.warmUp();
+
+    int count = 0;
+    for (final SpecificationTemplate<?> template : templates) {
+      validator.validate(template);
+      if (properties.translate()) {
+        validator.translate(template);
+      }
+      count++;
+    }
+    log.info("Validated {} specification templates", count);
+  }
+}
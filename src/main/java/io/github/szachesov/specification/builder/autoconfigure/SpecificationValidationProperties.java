@@ -0,0 +1,31 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder.autoconfigure;
+
+import io.github.szachesov.specification.builder.SpecificationValidator;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Properties of the startup validation of specification templates.
+ *
+ * @param enabled whether the column paths of the declared templates are validated at startup.
+ * @param translate whether the criteria queries of the templates are translated at startup to
+ *     validate them, see {@link SpecificationValidator#translate}.
+ */
+@ConfigurationProperties("specification.builder.validation")
+public record SpecificationValidationProperties(boolean enabled, boolean translate) {}
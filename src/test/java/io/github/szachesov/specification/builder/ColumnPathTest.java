@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.Tag;
+import io.github.szachesov.specification.builder.sample.entity.Tag_;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.DbUtils;
+import io.github.szachesov.specification.builder.testutils.H2Database;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.ManagedType;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ColumnPathTest {
+
+  @Test
+  void of_getColumns_byDottedColumn() {
+    final ColumnPath path = ColumnPath.of(DbUtils.joinPath(User_.POSTS, Post_.TAGS));
+
+    assertThat(path.getColumns()).containsExactly(User_.POSTS, Post_.TAGS);
+    assertThat(path).hasToString(DbUtils.joinPath(User_.POSTS, Post_.TAGS));
+  }
+
+  @Test
+  void of_getSameInstance_byDottedColumnAndColumns() {
+    final ColumnPath dotted = ColumnPath.of(DbUtils.joinPath(User_.POSTS, Post_.TITLE));
+    final ColumnPath columns = ColumnPath.of(List.of(User_.POSTS, Post_.TITLE));
+
+    assertThat(columns).isSameAs(dotted).isEqualTo(dotted);
+  }
+
+  @Test
+  void of_getSingleColumn_byColumnWithoutJoin() {
+    final ColumnPath path = ColumnPath.of(User_.USERNAME);
+
+    assertThat(path.getColumns()).containsExactly(User_.USERNAME);
+    assertThat(ColumnPath.of(List.of(User_.USERNAME))).isSameAs(path);
+  }
+
+  @Test
+  void resolve_getAttributesPerManagedType_byFactoriesOfSameClass() {
+    final ColumnPath path = ColumnPath.of(Tag_.NAME);
+    try (EntityManagerFactory first = H2Database.create(Tag.class);
+        EntityManagerFactory second = H2Database.create(Tag.class)) {
+      final ManagedType<Tag> firstType = first.getMetamodel().managedType(Tag.class);
+      final ManagedType<Tag> secondType = second.getMetamodel().managedType(Tag.class);
+
+      final List<AttributeInfo> attributes = path.resolve(firstType);
+
+      assertThat(path.resolve(firstType)).isSameAs(attributes);
+      assertThat(path.resolve(secondType)).isNotSameAs(attributes).isEqualTo(attributes);
+    }
+  }
+}
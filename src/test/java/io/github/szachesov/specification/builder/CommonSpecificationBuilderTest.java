@@ -26,16 +26,24 @@ import io.github.szachesov.specification.builder.sample.entity.Group;
 import io.github.szachesov.specification.builder.sample.entity.Group_;
 import io.github.szachesov.specification.builder.sample.entity.Post;
 import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.Profile_;
 import io.github.szachesov.specification.builder.sample.entity.User;
 import io.github.szachesov.specification.builder.sample.entity.User_;
 import io.github.szachesov.specification.builder.testutils.DbUtils;
+import io.github.szachesov.specification.builder.testutils.SqlStatements;
 import io.github.szachesov.specification.builder.testutils.TestConstants;
 import io.github.szachesov.specification.builder.testutils.TestData;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import java.util.List;
+import java.util.function.Function;
 import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -65,6 +73,145 @@ class CommonSpecificationBuilderTest extends SpecificationBuilderTest {
     assertThat(entities).isNotEmpty();
   }
 
+  @Test
+  void distinct_notApplied_byAutoWithoutToManyJoin() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .equal(List.of(User_.PROFILE, Profile_.BIO), TestConstants.USER_1_BIO)
+            .build();
+
+    final CriteriaQuery<User> query = toCriteriaQuery(User.class, spec);
+
+    assertThat(query.isDistinct()).isFalse();
+  }
+
+  @Test
+  void distinct_applied_byAutoWithToManyJoin() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder().isNotNull(List.of(User_.POSTS, Post_.TITLE)).build();
+
+    final CriteriaQuery<User> query = toCriteriaQuery(User.class, spec);
+
+    assertThat(query.isDistinct()).isTrue();
+  }
+
+  @Test
+  void count_getPlainJoin_byFetchToMany() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .isNull(List.of(User_.POSTS, Post_.TITLE), true, b -> b.not().fetch())
+            .build();
+
+    final CriteriaQuery<Long> query = toCountQuery(User.class, spec);
+    final Root<?> root = query.getRoots().iterator().next();
+
+    assertThat(root.getFetches()).isEmpty();
+    assertThat(root.getJoins()).hasSize(1);
+    assertThat(query.isDistinct()).isTrue();
+    assertThat(entityManager.createQuery(query).getSingleResult())
+        .isEqualTo(userRepository.findAll(spec).size());
+  }
+
+  @Test
+  void count_getPage_byFetchToMany() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .isNull(List.of(User_.POSTS, Post_.TITLE), true, b -> b.not().fetch())
+            .build();
+
+    final Page<User> page = userRepository.findAll(spec, PageRequest.of(0, 1));
+
+    assertThat(page.getContent()).hasSize(1);
+    assertThat(page.getTotalElements()).isEqualTo(userRepository.findAll(spec).size());
+  }
+
+  @Test
+  void count_notDistinct_byAlwaysWithoutToManyJoin() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .distinct(DistinctStrategy.ALWAYS)
+            .equal(List.of(User_.PROFILE, Profile_.BIO), TestConstants.USER_1_BIO)
+            .build();
+
+    assertThat(toCriteriaQuery(User.class, spec).isDistinct()).isTrue();
+    assertThat(toCountQuery(User.class, spec).isDistinct()).isFalse();
+  }
+
+  @Test
+  void count_notDistinct_byNeverWithToManyJoin() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .distinct(DistinctStrategy.NEVER)
+            .isNotNull(List.of(User_.POSTS, Post_.TITLE))
+            .build();
+
+    assertThat(toCountQuery(User.class, spec).isDistinct()).isFalse();
+  }
+
+  @Test
+  void count_noLeftJoin_byEmptyIn() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .emptyInMatchesNone()
+            .in(List.of(User_.POSTS, Post_.WORD_COUNT), List.of(), b -> b.join(JoinType.LEFT))
+            .build();
+
+    final CriteriaQuery<Long> query = toCountQuery(User.class, spec);
+
+    assertThat(query.getRoots().iterator().next().getJoins()).isEmpty();
+    assertThat(query.isDistinct()).isFalse();
+    assertThat(entityManager.createQuery(query).getSingleResult()).isZero();
+  }
+
+  @Test
+  void count_noJoinInSql_byEmptyLeftInOfDisjunction() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .emptyInMatchesNone()
+            .in(List.of(User_.POSTS, Post_.WORD_COUNT), List.of(), b -> b.join(JoinType.LEFT))
+            .equal(User_.USERNAME, TestConstants.USER_1_USERNAME,
+                b -> b.connection(LogicalOperator.OR))
+            .build();
+
+    SqlStatements.clear();
+    final Page<User> page = userRepository.findAll(spec, PageRequest.of(0, 1));
+
+    assertThat(page.getTotalElements()).isOne();
+    assertThat(SqlStatements.last()).contains("count(").doesNotContain(" join ");
+  }
+
+  @Test
+  void distinct_getUniqueResult_byInMemoryById() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .distinct(DistinctStrategy.IN_MEMORY_BY_ID)
+            .isNotNull(List.of(User_.POSTS, Post_.TITLE))
+            .build();
+
+    final List<User> entities =
+        DistinctStrategy.IN_MEMORY_BY_ID.deduplicate(
+            userRepository.findAll(spec),
+            entityManager.getEntityManagerFactory().getPersistenceUnitUtil());
+
+    assertThat(entities).isNotEmpty().extracting(User::getId).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void distinct_getUniqueResult_byCollectionJoinOfInnerSpecification() {
+    final Specification<User> posts =
+        (root, query, builder) -> root.join(User_.POSTS).get(Post_.TITLE).isNotNull();
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .isNotNull(User_.USERNAME)
+            .inner(posts, LogicalOperator.AND)
+            .build();
+
+    assertThat(toCriteriaQuery(User.class, spec).isDistinct()).isTrue();
+    assertThat(userRepository.findAll(spec))
+        .extracting(User::getUsername)
+        .containsExactlyInAnyOrder(TestConstants.USER_1_USERNAME, TestConstants.USER_2_USERNAME);
+  }
+
   @Test
   void inner_getAll_innerSpecificationIsNull() {
     final Specification<User> spec =
@@ -149,6 +296,72 @@ class CommonSpecificationBuilderTest extends SpecificationBuilderTest {
             });
   }
 
+  @Test
+  void build_getResult_byLeftToRightPrecedence() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .equal(User_.USERNAME, TestConstants.ADMIN_USERNAME)
+            .equal(User_.PHONE, TestConstants.USER_1_PHONE)
+            .equal(
+                User_.USERNAME,
+                TestConstants.USER_1_USERNAME,
+                b -> b.connection(LogicalOperator.OR))
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .singleElement()
+        .satisfies(e -> assertThat(e.getUsername()).isEqualTo(TestConstants.USER_1_USERNAME));
+  }
+
+  @Test
+  void build_getFlatConjunction_byManyConditions() {
+    final int size = 250;
+    final SpecificationBuilder<User> builder = SpecificationBuilder.builder();
+    for (int i = 0; i < size; i++) {
+      builder.notEqual(User_.USERNAME, String.valueOf(i));
+    }
+    final Specification<User> spec = builder.build();
+
+    final Predicate restriction = toCriteriaQuery(User.class, spec).getRestriction();
+
+    assertThat(restriction.getOperator()).isEqualTo(Predicate.BooleanOperator.AND);
+    assertThat(restriction.getExpressions()).hasSize(size);
+    assertThat(userRepository.findAll(spec)).hasSize(TestData.USERS.size());
+  }
+
+  @Test
+  void normalize_getSameResult_byRedundantConditions() {
+    final List<Integer> wordCounts =
+        List.of(
+            TestConstants.WORD_COUNT_POST_1_USER_1,
+            TestConstants.WORD_COUNT_POST_2_USER_1,
+            TestConstants.WORD_COUNT_POST_1_USER_2);
+    final Function<Boolean, Specification<Post>> spec =
+        normalize ->
+            SpecificationBuilder.<Post>builder()
+                .normalize(normalize)
+                .in(Post_.WORD_COUNT, wordCounts)
+                .min(Post_.WORD_COUNT, TestConstants.WORD_COUNT_POST_2_USER_1)
+                .min(Post_.WORD_COUNT, TestConstants.WORD_COUNT_POST_1_USER_1)
+                .isNotNull(Post_.WORD_COUNT)
+                .isNotNull(Post_.WORD_COUNT)
+                .build();
+
+    final List<Post> entities = postRepository.findAll(spec.apply(true));
+
+    assertThat(entities)
+        .isNotEmpty()
+        .allSatisfy(
+            e ->
+                assertThat(e.getWordCount())
+                    .isGreaterThanOrEqualTo(TestConstants.WORD_COUNT_POST_2_USER_1))
+        .extracting(Post::getId)
+        .containsExactlyInAnyOrderElementsOf(
+            postRepository.findAll(spec.apply(false)).stream().map(Post::getId).toList());
+  }
+
   @Test
   void emptyAllSpecification_getResult() {
     final Specification<Post> spec = SpecificationBuilder.<Post>builder().build();
@@ -218,6 +431,44 @@ class CommonSpecificationBuilderTest extends SpecificationBuilderTest {
                     .anySatisfy(t -> assertThat(t).isEqualTo(value)));
   }
 
+  @Test
+  void equal_getResult_byExistsJoinCollectionField() {
+    final String value = TestConstants.TECH_NAME_TAG;
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .equal(List.of(User_.POSTS, Post_.TAGS), value, CompositeSpecification.Builder::exists)
+            .build();
+
+    final EntityGraph eg =
+        DynamicEntityGraph.loading(
+            List.of(DbUtils.joinPath(User_.POSTS, Post_.TAGS), User_.PROFILE));
+    final List<User> entities = userRepository.findAll(spec, eg);
+
+    assertThat(entities)
+        .isNotEmpty()
+        .doesNotHaveDuplicates()
+        .allSatisfy(
+            e ->
+                assertThat(e.getPosts())
+                    .flatExtracting(Post::getTags)
+                    .anySatisfy(t -> assertThat(t).isEqualTo(value)));
+  }
+
+  @Test
+  void exists_noRootJoins_byJoinCollectionField() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .exists()
+            .isNotNull(List.of(User_.POSTS, Post_.TITLE))
+            .equal(List.of(User_.PROFILE, Profile_.BIO), TestConstants.USER_1_BIO)
+            .build();
+
+    final CriteriaQuery<User> query = toCriteriaQuery(User.class, spec);
+
+    assertThat(query.isDistinct()).isFalse();
+    assertThat(query.getRoots().iterator().next().getJoins()).hasSize(1);
+  }
+
   @Test
   void equal_getResult_byJoinAndLeftJoin() {
     final String group = TestConstants.USER_NAME_GROUP;
@@ -278,6 +529,62 @@ class CommonSpecificationBuilderTest extends SpecificationBuilderTest {
         .allSatisfy(p -> assertThat(Hibernate.isInitialized(p)).isEqualTo(true));
   }
 
+  @Test
+  void equal_throws_byUnknownJoinColumn() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder().equal(List.of(User_.PROFILE, "profle"), 1).build();
+
+    assertThatThrownBy(() -> userRepository.findAll(spec))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessageContaining("profle");
+  }
+
+  @Test
+  void equal_getResult_byInheritedColumn() {
+    final Integer id = TestData.USER_1.getId();
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder().equal(List.of(Post_.AUTHOR, User_.ID), id).build();
+
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities)
+        .isNotEmpty()
+        .extracting(Post::getAuthor)
+        .extracting(User::getId)
+        .containsOnly(id);
+  }
+
+  @Test
+  void equal_reuseJoins_byNestedJoinColumns() {
+    final List<String> columns = List.of(Post_.AUTHOR, User_.GROUPS, Group_.NAME);
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(columns, TestConstants.USER_NAME_GROUP)
+            .like(columns, TestConstants.USER_NAME_GROUP)
+            .build();
+
+    final CriteriaQuery<Post> query = toCriteriaQuery(Post.class, spec);
+
+    assertThat(query.getRoots().iterator().next().getJoins())
+        .singleElement()
+        .satisfies(author -> assertThat(author.getJoins()).hasSize(1));
+  }
+
+  @Test
+  void equal_joinPerCondition_byElementCollection() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(Post_.TAGS, TestConstants.AI_NAME_TAG)
+            .equal(Post_.TAGS, TestConstants.TECH_NAME_TAG)
+            .build();
+
+    final CriteriaQuery<Post> query = toCriteriaQuery(Post.class, spec);
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(query.getRoots().iterator().next().getJoins()).hasSize(2);
+    assertThat(entities).extracting(Post::getId).containsExactly(TestData.POST_1_USER_1.getId());
+  }
+
   @Test
   void isNotNull_getResult_byOneToOne() {
     final Specification<User> spec =
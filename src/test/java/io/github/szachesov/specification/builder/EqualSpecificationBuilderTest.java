@@ -28,12 +28,14 @@ import io.github.szachesov.specification.builder.sample.entity.Post_;
 import io.github.szachesov.specification.builder.sample.entity.User;
 import io.github.szachesov.specification.builder.sample.entity.User_;
 import io.github.szachesov.specification.builder.testutils.DbUtils;
+import io.github.szachesov.specification.builder.testutils.SqlStatements;
 import io.github.szachesov.specification.builder.testutils.TestConstants;
 import io.github.szachesov.specification.builder.testutils.TestData;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import org.assertj.core.util.BigDecimalComparator;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.jpa.domain.Specification;
@@ -200,4 +202,67 @@ class EqualSpecificationBuilderTest extends SpecificationBuilderTest {
 
     assertThat(entities).hasSize(TestData.POSTS.size());
   }
+
+  @Test
+  void equal_getResult_byIgnoreCase() {
+    final String value = TestConstants.USER_NAME_GROUP.toLowerCase(Locale.ROOT);
+    final Specification<Group> spec =
+        SpecificationBuilder.<Group>builder()
+            .equal(Group_.NAME, value, EqualsSpecification.Builder::ignoreCase)
+            .build();
+
+    SqlStatements.clear();
+    final List<Group> entities = groupRepository.findAll(spec);
+
+    assertThat(entities).extracting(Group::getName).containsOnly(TestConstants.USER_NAME_GROUP);
+    assertThat(SqlStatements.last()).contains("upper(");
+  }
+
+  @Test
+  void equal_getResult_byGlobalCaseFolding() {
+    final String value = TestConstants.USER_NAME_GROUP.toLowerCase(Locale.ROOT);
+    final Specification<Group> spec =
+        SpecificationBuilder.<Group>builder()
+            .caseFolding(CaseFolding.LOWER)
+            .equal(Group_.NAME, value, EqualsSpecification.Builder::ignoreCase)
+            .build();
+
+    SqlStatements.clear();
+    final List<Group> entities = groupRepository.findAll(spec);
+
+    assertThat(entities).extracting(Group::getName).containsOnly(TestConstants.USER_NAME_GROUP);
+    assertThat(SqlStatements.last()).contains("lower(");
+  }
+
+  @Test
+  void equal_getResult_byNotIlike() {
+    final String value = TestConstants.USER_NAME_GROUP.toLowerCase(Locale.ROOT);
+    final Specification<Group> spec =
+        SpecificationBuilder.<Group>builder()
+            .equal(Group_.NAME, value, b -> b.caseFolding(CaseFolding.ILIKE).not())
+            .build();
+
+    SqlStatements.clear();
+    final List<Group> entities = groupRepository.findAll(spec);
+
+    assertThat(entities)
+        .hasSize(TestData.GROUPS.size() - 1)
+        .extracting(Group::getName)
+        .doesNotContain(TestConstants.USER_NAME_GROUP);
+    assertThat(SqlStatements.last()).contains(" ilike ");
+  }
+
+  @Test
+  void equal_getResult_byIgnoreCaseOfNotString() {
+    final var value = 1;
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .equal(User_.ID, value, EqualsSpecification.Builder::ignoreCase)
+            .equal(User_.ID, value, EqualsSpecification.Builder::ignoreCase)
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities).extracting(User::getId).containsOnly(value);
+  }
 }
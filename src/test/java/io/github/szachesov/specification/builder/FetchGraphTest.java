@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.DbUtils;
+import io.github.szachesov.specification.builder.testutils.SqlStatements;
+import io.github.szachesov.specification.builder.testutils.TestData;
+import jakarta.persistence.criteria.CriteriaQuery;
+import java.util.List;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
+
+class FetchGraphTest extends SpecificationBuilderTest {
+
+  private static final String POST_TAGS = DbUtils.joinPath(User_.POSTS, Post_.TAGS);
+
+  @Test
+  void fetchGraph_noJoins_byGraphPaths() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .isNotNull(User_.USERNAME)
+            .fetchGraph(User_.POSTS, POST_TAGS)
+            .build();
+
+    final CriteriaQuery<User> query = toCriteriaQuery(User.class, spec);
+
+    assertThat(query.getRoots().iterator().next().getJoins()).isEmpty();
+    assertThat(query.getRoots().iterator().next().getFetches()).isEmpty();
+    assertThat(query.isDistinct()).isFalse();
+    assertThat(SpecificationExecutors.fetchGraph(spec))
+        .isEqualTo(new FetchGraph(List.of(User_.POSTS, POST_TAGS), EntityGraphType.FETCH));
+  }
+
+  @Test
+  void findAll_getInitializedPaths_byFetchGraph() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder().fetchGraph(User_.POSTS, POST_TAGS).build();
+
+    final List<User> entities = SpecificationExecutors.findAll(userRepository, spec);
+
+    assertThat(entities)
+        .hasSize(TestData.USERS.size())
+        .allSatisfy(user -> assertThat(Hibernate.isInitialized(user.getPosts())).isTrue())
+        .allSatisfy(
+            user ->
+                assertThat(user.getPosts())
+                    .allSatisfy(
+                        post -> assertThat(Hibernate.isInitialized(post.getTags())).isTrue()));
+  }
+
+  @Test
+  void findAll_throwException_byPageWithFetchGraph() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder().fetchGraph(User_.POSTS).build();
+    final PageRequest pageable = PageRequest.of(0, 2);
+
+    assertThatThrownBy(() -> SpecificationExecutors.findAll(userRepository, spec, pageable))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("findAllByIds");
+  }
+
+  @Test
+  void findAllByIds_getInitializedPageInDatabase_byCollectionFetchGraph() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .isNotNull(User_.USERNAME)
+            .fetchGraph(User_.POSTS)
+            .build();
+
+    SqlStatements.clear();
+    final Page<User> page =
+        SpecificationExecutors.findAllByIds(
+            entityManager, User.class, spec, PageRequest.of(0, 2, Sort.by(User_.USERNAME)));
+
+    assertThat(page.getTotalElements()).isEqualTo(TestData.USERS.size());
+    assertThat(page.getContent())
+        .hasSize(2)
+        .allSatisfy(user -> assertThat(Hibernate.isInitialized(user.getPosts())).isTrue());
+    assertThat(SqlStatements.all().getFirst()).containsIgnoringCase("fetch first");
+  }
+
+  @Test
+  void findAll_throwException_byLoadGraph() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder().fetchGraph(EntityGraphType.LOAD, POST_TAGS).build();
+
+    assertThatThrownBy(() -> SpecificationExecutors.findAll(userRepository, spec))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("findAllByIds");
+  }
+
+  @Test
+  void findWindow_getInitializedPaths_byLoadGraph() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder().fetchGraph(EntityGraphType.LOAD, POST_TAGS).build();
+
+    final KeysetWindow<User> window =
+        SpecificationExecutors.findWindow(
+            entityManager, User.class, spec, PageRequest.of(0, 1, Sort.by(User_.USERNAME)));
+
+    assertThat(window.hasNext()).isTrue();
+    assertThat(window.content())
+        .singleElement()
+        .satisfies(user -> assertThat(Hibernate.isInitialized(user.getPosts())).isTrue());
+  }
+
+  @Test
+  void findWindow_getInitializedPaths_byFetchGraph() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder().fetchGraph(Post_.AUTHOR).build();
+
+    final KeysetWindow<Post> window =
+        SpecificationExecutors.findWindow(
+            entityManager, Post.class, spec, PageRequest.of(0, 1, Sort.by(Post_.ID)));
+
+    assertThat(window.hasNext()).isTrue();
+    assertThat(window.content())
+        .singleElement()
+        .satisfies(post -> assertThat(Hibernate.isInitialized(post.getAuthor())).isTrue());
+  }
+
+  @Test
+  void findAllByIds_getInitializedPaths_byLoadGraph() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .isNotNull(User_.USERNAME)
+            .fetchGraph(EntityGraphType.LOAD, POST_TAGS)
+            .build();
+
+    final Page<User> page =
+        SpecificationExecutors.findAllByIds(
+            entityManager, User.class, spec, PageRequest.of(0, 1, Sort.by(User_.USERNAME)));
+
+    assertThat(page.getTotalElements()).isEqualTo(TestData.USERS.size());
+    assertThat(page.getContent())
+        .singleElement()
+        .satisfies(user -> assertThat(Hibernate.isInitialized(user.getPosts())).isTrue());
+  }
+
+  @Test
+  void toEntityGraph_throwException_byUnknownAttribute() {
+    final FetchGraph graph = new FetchGraph(List.of("postz"), EntityGraphType.FETCH);
+
+    assertThatThrownBy(() -> graph.toEntityGraph(entityManager, User.class))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void fetchGraph_getNull_byUnrestricted() {
+    assertThat(SpecificationExecutors.fetchGraph(Specification.unrestricted())).isNull();
+    assertThat(
+            SpecificationExecutors.fetchGraph(
+                SpecificationBuilder.<User>builder().isNotNull(User_.USERNAME).build()))
+        .isNull();
+  }
+}
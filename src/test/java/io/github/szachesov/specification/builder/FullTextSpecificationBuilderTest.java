@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.SqlStatements;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import io.github.szachesov.specification.builder.testutils.TestData;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+class FullTextSpecificationBuilderTest extends SpecificationBuilderTest {
+
+  @Test
+  void search_getResult_byExpression() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder().search(Post_.TITLE, "пост 444").build();
+
+    SqlStatements.clear();
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(Post::getTitle)
+        .containsOnly(TestConstants.TITLE_POST_1_USER_2);
+    assertThat(SqlStatements.last())
+        .contains("to_tsvector('simple',")
+        .contains(" @@ plainto_tsquery('simple',")
+        .doesNotContain(" like ");
+  }
+
+  @Test
+  void search_getResult_byVector() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .search(Post_.TITLE, "ПОСТ 4", b -> b.vector(Post_.TITLE_VECTOR))
+            .build();
+
+    SqlStatements.clear();
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(Post::getTitle)
+        .containsOnly(TestConstants.TITLE_POST_2_USER_1);
+    assertThat(SqlStatements.last()).contains("title_vector @@").doesNotContain("to_tsvector");
+  }
+
+  @Test
+  void search_getResult_byJoinAndConfig() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .search(List.of(User_.POSTS, Post_.TITLE), "444", b -> b.config("english"))
+            .build();
+
+    SqlStatements.clear();
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities).extracting(User::getUsername).containsOnly(TestConstants.USER_2_USERNAME);
+    assertThat(SqlStatements.last()).contains("to_tsvector('english',");
+  }
+
+  @Test
+  void search_getAll_byBlankValue() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder().search(Post_.TITLE, " ").build();
+
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities).hasSize(TestData.POSTS.size());
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.szachesov.specification.builder.sample.entity.Tag;
+import io.github.szachesov.specification.builder.sample.entity.Tag_;
+import io.github.szachesov.specification.builder.testutils.H2Database;
+import io.github.szachesov.specification.builder.testutils.SqlStatements;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import io.github.szachesov.specification.builder.testutils.TestData;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+class H2SpecificationBuilderTest {
+
+  private static EntityManagerFactory factory;
+
+  @BeforeAll
+  static void init() {
+    factory = H2Database.create(Tag.class);
+    factory.runInTransaction(
+        manager -> TestData.TAGS.forEach(tag -> manager.persist(new Tag(tag.getName()))));
+  }
+
+  @AfterAll
+  static void close() {
+    factory.close();
+  }
+
+  @Test
+  void search_getLikeOfEveryWord_byNotPostgreSql() {
+    final Specification<Tag> spec =
+        SpecificationBuilder.<Tag>builder().search(Tag_.NAME, " ech  T ").build();
+
+    SqlStatements.clear();
+    final List<Tag> entities = findAll(spec);
+
+    assertThat(entities).extracting(Tag::getName).containsOnly(TestConstants.TECH_NAME_TAG);
+    assertThat(SqlStatements.last()).contains(" like ").doesNotContain("tsvector");
+  }
+
+  @Test
+  void search_getLikeOfConfiguredCaseFolding_byNotPostgreSql() {
+    final Specification<Tag> spec =
+        SpecificationBuilder.<Tag>builder()
+            .caseFolding(CaseFolding.LOWER)
+            .search(Tag_.NAME, "PROGRAM")
+            .build();
+
+    SqlStatements.clear();
+    final List<Tag> entities = findAll(spec);
+
+    assertThat(entities)
+        .extracting(Tag::getName)
+        .containsOnly(TestConstants.PROGRAMMING_NAME_TAG);
+    assertThat(SqlStatements.last()).contains("lower(").doesNotContain("upper(");
+  }
+
+  @Test
+  void like_getResult_byIlikeOfNotPostgreSql() {
+    final Specification<Tag> spec =
+        SpecificationBuilder.<Tag>builder()
+            .like(
+                Tag_.NAME, "PROG", b -> b.caseFolding(CaseFolding.ILIKE).wildcard(Wildcard.ENDING))
+            .build();
+
+    final List<Tag> entities = findAll(spec);
+
+    assertThat(entities)
+        .extracting(Tag::getName)
+        .containsOnly(TestConstants.PROGRAMMING_NAME_TAG);
+  }
+
+  @Test
+  void in_bindOneArray_byAnyArrayOfH2() {
+    final List<Integer> ids = ids();
+    final Specification<Tag> spec =
+        SpecificationBuilder.<Tag>builder()
+            .in(Tag_.ID, ids, InSpecification.Builder::anyArray)
+            .build();
+
+    SqlStatements.clear();
+    final List<Tag> entities = findAll(spec);
+
+    assertThat(entities).extracting(Tag::getId).containsExactlyInAnyOrderElementsOf(ids);
+    assertThat(SqlStatements.last()).containsIgnoringCase("= any(");
+    assertThat(SqlStatements.countBinds(SqlStatements.last())).isOne();
+  }
+
+  @Test
+  void in_semiJoinValues_bySemiJoinOfH2() {
+    final List<Integer> ids = ids();
+    final Specification<Tag> spec =
+        SpecificationBuilder.<Tag>builder().in(Tag_.ID, ids, b -> b.semiJoin(ids.size())).build();
+
+    SqlStatements.clear();
+    final List<Tag> entities = findAll(spec);
+
+    assertThat(entities).extracting(Tag::getId).containsExactlyInAnyOrderElementsOf(ids);
+    assertThat(SqlStatements.last()).containsIgnoringCase("unnest(");
+    assertThat(SqlStatements.countBinds(SqlStatements.last())).isOne();
+  }
+
+  private static List<Integer> ids() {
+    try (EntityManager manager = factory.createEntityManager()) {
+      return manager.createQuery("select t.id from Tag t", Integer.class).getResultList();
+    }
+  }
+
+  private static List<Tag> findAll(final Specification<Tag> spec) {
+    try (EntityManager manager = factory.createEntityManager()) {
+      final CriteriaBuilder builder = manager.getCriteriaBuilder();
+      final CriteriaQuery<Tag> query = builder.createQuery(Tag.class);
+      final Root<Tag> root = query.from(Tag.class);
+      query.where(spec.toPredicate(root, query, builder));
+      return manager.createQuery(query).getResultList();
+    }
+  }
+}
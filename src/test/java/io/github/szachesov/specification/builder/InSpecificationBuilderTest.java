@@ -17,18 +17,31 @@
 
 package io.github.szachesov.specification.builder;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import com.cosium.spring.data.jpa.entity.graph.domain2.DynamicEntityGraph;
 import com.cosium.spring.data.jpa.entity.graph.domain2.EntityGraph;
+import com.sun.management.ThreadMXBean;
 import io.github.szachesov.specification.builder.sample.entity.Post;
 import io.github.szachesov.specification.builder.sample.entity.Post_;
 import io.github.szachesov.specification.builder.sample.entity.User;
 import io.github.szachesov.specification.builder.sample.entity.User_;
 import io.github.szachesov.specification.builder.testutils.DbUtils;
+import io.github.szachesov.specification.builder.testutils.SqlStatements;
 import io.github.szachesov.specification.builder.testutils.TestConstants;
 import io.github.szachesov.specification.builder.testutils.TestData;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -49,7 +62,9 @@ class InSpecificationBuilderTest extends SpecificationBuilderTest {
   @Test
   void in_getAll_byNullValues() {
     final Specification<Post> spec =
-        SpecificationBuilder.<Post>builder().in(Post_.RATING, null).build();
+        SpecificationBuilder.<Post>builder()
+            .in(Post_.RATING, (Collection<BigDecimal>) null)
+            .build();
 
     final List<Post> entities = postRepository.findAll(spec);
 
@@ -66,6 +81,384 @@ class InSpecificationBuilderTest extends SpecificationBuilderTest {
     assertThat(entities).hasSize(TestData.POSTS.size());
   }
 
+  @Test
+  void in_getEmpty_byEmptyValuesMatchingNone() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .equal(User_.USERNAME, TestConstants.ADMIN_USERNAME)
+            .in(
+                User_.PHONE,
+                List.of(),
+                b -> b.emptyMatchesNone().connection(LogicalOperator.OR))
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .singleElement()
+        .satisfies(e -> assertThat(e.getUsername()).isEqualTo(TestConstants.ADMIN_USERNAME));
+  }
+
+  @Test
+  void in_getResult_bySortDistinctPaddingAndChunks() {
+    final List<String> usernames =
+        List.of(
+            TestConstants.USER_2_USERNAME,
+            TestConstants.USER_1_USERNAME,
+            TestConstants.ADMIN_USERNAME,
+            TestConstants.USER_1_USERNAME);
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .normalize(false)
+            .in(User_.USERNAME, usernames, b -> b.sortDistinct().padding().chunkSize(2))
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .hasSize(3)
+        .extracting(User::getUsername)
+        .containsExactlyInAnyOrderElementsOf(Set.copyOf(usernames));
+    assertThat(toCriteriaQuery(User.class, spec).getRestriction().getExpressions()).hasSize(2);
+  }
+
+  @Test
+  void in_getResult_byPadding() {
+    final List<String> usernames =
+        List.of(
+            TestConstants.USER_2_USERNAME,
+            TestConstants.USER_1_USERNAME,
+            TestConstants.ADMIN_USERNAME);
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .in(User_.USERNAME, usernames, InSpecification.Builder::padding)
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactlyInAnyOrderElementsOf(usernames);
+  }
+
+  @Test
+  void in_bindSingleArray_byAnyArray() {
+    final List<Integer> wordCounts =
+        List.of(
+            TestConstants.WORD_COUNT_POST_1_USER_1,
+            TestConstants.WORD_COUNT_POST_2_USER_1,
+            TestConstants.WORD_COUNT_POST_1_USER_2);
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .in(Post_.WORD_COUNT, wordCounts, InSpecification.Builder::anyArray)
+            .build();
+
+    SqlStatements.clear();
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities)
+        .isNotEmpty()
+        .extracting(Post::getWordCount)
+        .allSatisfy(v -> assertThat(wordCounts).contains(v));
+    assertThat(SqlStatements.last()).containsIgnoringCase("= any(");
+    assertThat(SqlStatements.countBinds(SqlStatements.last())).isOne();
+  }
+
+  @Test
+  void in_bindEachValue_byAnyArrayBelowThreshold() {
+    final List<Integer> wordCounts =
+        List.of(TestConstants.WORD_COUNT_POST_1_USER_1, TestConstants.WORD_COUNT_POST_1_USER_2);
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .in(Post_.WORD_COUNT, wordCounts, b -> b.anyArray(wordCounts.size() + 1))
+            .build();
+
+    SqlStatements.clear();
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities).isNotEmpty();
+    assertThat(SqlStatements.last()).doesNotContainIgnoringCase("any(");
+    assertThat(SqlStatements.countBinds(SqlStatements.last())).isEqualTo(wordCounts.size());
+  }
+
+  @Test
+  void in_semiJoinValues_bySemiJoinThreshold() {
+    final List<Integer> wordCounts =
+        List.of(
+            TestConstants.WORD_COUNT_POST_1_USER_1,
+            TestConstants.WORD_COUNT_POST_2_USER_1,
+            TestConstants.WORD_COUNT_POST_1_USER_2);
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .in(Post_.WORD_COUNT, wordCounts, b -> b.semiJoin(wordCounts.size()).anyArray())
+            .build();
+
+    SqlStatements.clear();
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities).extracting(Post::getWordCount).hasSameElementsAs(wordCounts);
+    assertThat(SqlStatements.last()).containsIgnoringCase("unnest(");
+    assertThat(SqlStatements.countBinds(SqlStatements.last())).isOne();
+  }
+
+  @Test
+  void in_bindOneArray_bySemiJoinBelowThreshold() {
+    final List<Integer> wordCounts =
+        List.of(TestConstants.WORD_COUNT_POST_1_USER_1, TestConstants.WORD_COUNT_POST_1_USER_2);
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .in(Post_.WORD_COUNT, wordCounts, b -> b.semiJoin(wordCounts.size() + 1).anyArray())
+            .build();
+
+    SqlStatements.clear();
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities).extracting(Post::getWordCount).hasSameElementsAs(wordCounts);
+    assertThat(SqlStatements.last())
+        .doesNotContainIgnoringCase("unnest(")
+        .containsIgnoringCase("= any(");
+  }
+
+  @Test
+  void in_bindEachValue_bySemiJoinWithoutQuery() {
+    final List<Integer> wordCounts =
+        List.of(TestConstants.WORD_COUNT_POST_1_USER_1, TestConstants.WORD_COUNT_POST_1_USER_2);
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .in(Post_.WORD_COUNT, wordCounts, b -> b.semiJoin(1))
+            .build();
+    final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<Post> query = builder.createQuery(Post.class);
+    final Root<Post> root = query.from(Post.class);
+    query.where(spec.toPredicate(root, null, builder));
+
+    SqlStatements.clear();
+    final List<Post> entities = entityManager.createQuery(query).getResultList();
+
+    assertThat(entities).extracting(Post::getWordCount).hasSameElementsAs(wordCounts);
+    assertThat(SqlStatements.last()).doesNotContainIgnoringCase("unnest(");
+    assertThat(SqlStatements.countBinds(SqlStatements.last())).isEqualTo(wordCounts.size());
+  }
+
+  @Test
+  void semiJoin_throws_byNotPositiveThreshold() {
+    final InSpecification.Builder<Post, Integer> builder =
+        new InSpecification.Builder<>(ColumnPath.of(Post_.WORD_COUNT), List.of(1));
+
+    assertThatThrownBy(() -> builder.semiJoin(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void anyArray_throws_byNotPositiveThreshold() {
+    final InSpecification.Builder<Post, Integer> builder =
+        new InSpecification.Builder<>(ColumnPath.of(Post_.WORD_COUNT), List.of(1));
+
+    assertThatThrownBy(() -> builder.anyArray(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void in_getResult_byCompressRanges() {
+    final List<Integer> wordCounts =
+        List.of(
+            TestConstants.WORD_COUNT_POST_1_USER_2,
+            TestConstants.WORD_COUNT_POST_2_USER_1,
+            TestConstants.WORD_COUNT_POST_1_USER_1);
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .in(Post_.WORD_COUNT, wordCounts, b -> b.compressRanges(2))
+            .build();
+
+    SqlStatements.clear();
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities)
+        .isNotEmpty()
+        .extracting(Post::getWordCount)
+        .allSatisfy(v -> assertThat(wordCounts).contains(v))
+        .containsAll(wordCounts);
+    assertThat(SqlStatements.last()).containsIgnoringCase(" between ");
+    assertThat(SqlStatements.countBinds(SqlStatements.last())).isEqualTo(3);
+  }
+
+  @Test
+  void in_getResult_byCompressRangesWithoutRuns() {
+    final List<String> usernames =
+        List.of(TestConstants.USER_1_USERNAME, TestConstants.USER_2_USERNAME);
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .in(User_.USERNAME, usernames, InSpecification.Builder::compressRanges)
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(User::getUsername)
+        .containsExactlyInAnyOrderElementsOf(usernames);
+  }
+
+  @Test
+  void compressRanges_throws_bySingleValueRange() {
+    final InSpecification.Builder<Post, Integer> builder =
+        new InSpecification.Builder<>(ColumnPath.of(Post_.WORD_COUNT), List.of(1));
+
+    assertThatThrownBy(() -> builder.compressRanges(1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void in_getResult_byIntArray() {
+    final int[] wordCounts = {
+      TestConstants.WORD_COUNT_POST_1_USER_1, TestConstants.WORD_COUNT_POST_1_USER_2
+    };
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .in(List.of(User_.POSTS, Post_.WORD_COUNT), wordCounts)
+            .build();
+
+    final List<User> entities = userRepository.findAll(spec);
+
+    assertThat(entities)
+        .isNotEmpty()
+        .allSatisfy(
+            e ->
+                assertThat(e.getPosts())
+                    .extracting(Post::getWordCount)
+                    .containsAnyOf(
+                        TestConstants.WORD_COUNT_POST_1_USER_1,
+                        TestConstants.WORD_COUNT_POST_1_USER_2));
+  }
+
+  @Test
+  void in_getRanges_byIntArrayAndLongStreamOptions() {
+    final int[] wordCounts = {
+      TestConstants.WORD_COUNT_POST_2_USER_1, TestConstants.WORD_COUNT_POST_1_USER_1
+    };
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .in(Post_.WORD_COUNT, wordCounts, b -> b.compressRanges(2))
+            .in(
+                List.of(Post_.WORD_COUNT),
+                Arrays.stream(wordCounts).asLongStream(),
+                InSpecification.Builder::sortDistinct)
+            .in(Post_.WORD_COUNT, wordCounts)
+            .in(List.of(Post_.WORD_COUNT), Arrays.stream(wordCounts).asLongStream())
+            .build();
+
+    SqlStatements.clear();
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(Post::getWordCount)
+        .containsOnly(
+            TestConstants.WORD_COUNT_POST_1_USER_1, TestConstants.WORD_COUNT_POST_2_USER_1);
+    assertThat(SqlStatements.last()).contains(" between ");
+  }
+
+  @Test
+  void in_getResult_byLongStream() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .in(
+                Post_.WORD_COUNT,
+                new long[] {
+                  TestConstants.WORD_COUNT_POST_2_USER_1,
+                  TestConstants.WORD_COUNT_POST_1_USER_1,
+                  TestConstants.WORD_COUNT_POST_2_USER_1
+                },
+                b -> b.sortDistinct().compressRanges(2))
+            .in(
+                Post_.WORD_COUNT,
+                LongStream.of(
+                    TestConstants.WORD_COUNT_POST_1_USER_1, TestConstants.WORD_COUNT_POST_2_USER_1))
+            .in(
+                Post_.WORD_COUNT,
+                LongStream.of(
+                    TestConstants.WORD_COUNT_POST_1_USER_1, TestConstants.WORD_COUNT_POST_2_USER_1))
+            .build();
+
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities)
+        .isNotEmpty()
+        .extracting(Post::getWordCount)
+        .containsOnly(
+            TestConstants.WORD_COUNT_POST_1_USER_1, TestConstants.WORD_COUNT_POST_2_USER_1);
+  }
+
+  @Test
+  void in_throws_byIntegralValuesOfNotIntegralColumn() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder().in(User_.USERNAME, new long[] {1}).build();
+
+    assertThatThrownBy(() -> toCriteriaQuery(User.class, spec))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining(String.class.getName());
+  }
+
+  @Test
+  void in_throws_byIntegralValueOutOfRange() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .in(Post_.WORD_COUNT, new long[] {Long.MAX_VALUE})
+            .build();
+
+    assertThatThrownBy(() -> toCriteriaQuery(Post.class, spec))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining(String.valueOf(Long.MAX_VALUE));
+  }
+
+  @Test
+  void in_allocateNoBoxedValues_byLongArray() {
+    assumeTrue(ModuleLayer.boot().findModule("jdk.management").isPresent());
+    assumeTrue(
+        ManagementFactory.getThreadMXBean() instanceof ThreadMXBean bean
+            && bean.isThreadAllocatedMemorySupported()
+            && bean.isThreadAllocatedMemoryEnabled());
+    final long[] values = LongStream.range(1_000_000, 1_100_000).toArray();
+    final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    SpecificationBuilder.<Post>builder().in(Post_.WORD_COUNT, values).build();
+
+    final long before = threads.getCurrentThreadAllocatedBytes();
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder().in(Post_.WORD_COUNT, values).build();
+    final long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+    assertThat(spec).isNotNull();
+    assertThat(allocated).isLessThan(values.length * Long.BYTES * 3L / 2);
+  }
+
+  @Test
+  void integralValues_equalBoxedList_byLongValues() {
+    assertThat(IntegralValues.of(new long[] {1, 2}))
+        .isEqualTo(List.of(1L, 2L))
+        .hasSameHashCodeAs(List.of(1L, 2L));
+    assertThat(IntegralValues.of(new long[] {1, -2}).as(Integer.class))
+        .isEqualTo(List.of(1, -2))
+        .hasSameHashCodeAs(List.of(1, -2));
+  }
+
+  @Test
+  void sortDistinct_getEqualSpecifications_byReorderedDuplicates() {
+    final ColumnPath path = ColumnPath.of(Post_.WORD_COUNT);
+
+    final InSpecification<Post, Integer> reordered =
+        new InSpecification.Builder<Post, Integer>(path, Arrays.asList(3, null, 1, 3))
+            .sortDistinct()
+            .build();
+
+    assertThat(reordered)
+        .isEqualTo(
+            new InSpecification.Builder<Post, Integer>(path, List.of(1, 3)).sortDistinct().build());
+  }
+
+  @Test
+  void chunkSize_throws_byNotPositiveSize() {
+    final InSpecification.Builder<Post, Integer> builder =
+        new InSpecification.Builder<>(ColumnPath.of(Post_.WORD_COUNT), List.of(1));
+
+    assertThatThrownBy(() -> builder.chunkSize(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   void in_getResult_byJoinInteger() {
     final List<Integer> values = List.of(1, 2);
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+  @Test
+  void decode_getSameCursor_byEncodedSupportedTypes() {
+    final Map<String, Object> keys = new LinkedHashMap<>();
+    keys.put("string", "a.b/c");
+    keys.put("integer", 1);
+    keys.put("long", 2L);
+    keys.put("short", (short) 3);
+    keys.put("bigDecimal", new BigDecimal("4.50"));
+    keys.put("double", 5.5);
+    keys.put("boolean", true);
+    keys.put("localDate", LocalDate.of(2026, 1, 2));
+    keys.put("localDateTime", LocalDateTime.of(2026, 1, 2, 3, 4, 5, 6));
+    keys.put("offsetDateTime", OffsetDateTime.parse("2026-01-02T03:04:05+03:00"));
+    keys.put("instant", Instant.parse("2026-01-02T03:04:05.678Z"));
+    keys.put("uuid", UUID.randomUUID());
+    final KeysetCursor cursor = KeysetCursor.of(keys);
+
+    final String encoded = cursor.encode();
+
+    assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    assertThat(KeysetCursor.decode(encoded)).isEqualTo(cursor);
+    assertThat(KeysetCursor.decode(encoded).get("bigDecimal")).isEqualTo(new BigDecimal("4.50"));
+  }
+
+  @Test
+  void of_throwException_byNullValue() {
+    final Map<String, Object> keys = new HashMap<>();
+    keys.put("id", null);
+
+    assertThatThrownBy(() -> KeysetCursor.of(keys))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("[id]");
+  }
+
+  @Test
+  void of_throwException_byUnsupportedType() {
+    assertThatThrownBy(() -> KeysetCursor.of(Map.of("id", new Object())))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("java.lang.Object");
+  }
+
+  @Test
+  void get_throwException_byMissingProperty() {
+    final KeysetCursor cursor = KeysetCursor.of(Map.of("id", 1));
+
+    assertThatThrownBy(() -> cursor.get("title"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("[title]");
+  }
+
+  @Test
+  void decode_throwException_byNotBase64() {
+    assertThatThrownBy(() -> KeysetCursor.decode("!"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Malformed cursor");
+  }
+
+  @Test
+  void decode_throwException_byUnsupportedVersion() throws IOException {
+    final String cursor = encode(2, 0, 'i');
+
+    assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasRootCauseMessage("Unsupported cursor version");
+  }
+
+  @Test
+  void decode_throwException_byUnknownType() throws IOException {
+    final String cursor = encode(1, 1, 'x');
+
+    assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasRootCauseMessage("Unknown cursor value type [x]");
+  }
+
+  @Test
+  void decode_throwException_byTrailingBytes() throws IOException {
+    final String cursor = encode(1, 1, 'i', (byte) 0);
+
+    assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasRootCauseMessage("Trailing bytes");
+  }
+
+  @Test
+  void decode_throwException_byTruncatedBytes() throws IOException {
+    final String cursor = encode(1, 2, 'i');
+
+    assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Malformed cursor");
+  }
+
+  private static String encode(
+      final int version, final int size, final char tag, final byte... tail) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(version);
+      out.writeShort(size);
+      out.writeUTF("id");
+      out.writeChar(tag);
+      out.writeUTF("1");
+      out.write(tail);
+    }
+    return Base64.getUrlEncoder().encodeToString(bytes.toByteArray());
+  }
+}
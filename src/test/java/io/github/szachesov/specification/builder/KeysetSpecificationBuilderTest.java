@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.DbUtils;
+import io.github.szachesov.specification.builder.testutils.SqlStatements;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import io.github.szachesov.specification.builder.testutils.TestData;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+class KeysetSpecificationBuilderTest extends SpecificationBuilderTest {
+
+  private static final Sort BY_WORD_COUNT_DESC = Sort.by(Sort.Direction.DESC, Post_.WORD_COUNT);
+
+  @Test
+  void findWindow_getAllWindows_byNextCursor() {
+    final Specification<Post> first = SpecificationBuilder.<Post>builder().build();
+
+    SqlStatements.clear();
+    final KeysetWindow<Post> firstWindow =
+        SpecificationExecutors.findWindow(
+            entityManager, Post.class, first, PageRequest.of(0, 2, BY_WORD_COUNT_DESC));
+
+    assertThat(firstWindow.content())
+        .extracting(Post::getWordCount)
+        .containsExactly(
+            TestConstants.WORD_COUNT_POST_1_USER_2, TestConstants.WORD_COUNT_POST_2_USER_1);
+    assertThat(firstWindow.hasNext()).isTrue();
+    assertThat(SqlStatements.all()).noneMatch(sql -> sql.contains(" offset "));
+
+    final KeysetCursor cursor = KeysetCursor.decode(firstWindow.next().encode());
+    final Specification<Post> second =
+        SpecificationBuilder.<Post>builder().after(cursor, BY_WORD_COUNT_DESC).build();
+    final KeysetWindow<Post> secondWindow =
+        SpecificationExecutors.findWindow(
+            entityManager, Post.class, second, PageRequest.of(0, 2, BY_WORD_COUNT_DESC));
+
+    assertThat(secondWindow.content())
+        .extracting(Post::getWordCount)
+        .containsExactly(TestConstants.WORD_COUNT_POST_1_USER_1);
+    assertThat(secondWindow.hasNext()).isFalse();
+  }
+
+  @Test
+  void findWindow_getWindow_bySortWithTieBreaker() {
+    final Sort sort = Sort.by(Sort.Direction.DESC, Post_.ID);
+    final Specification<Post> spec = SpecificationBuilder.<Post>builder().build();
+
+    final KeysetWindow<Post> window =
+        SpecificationExecutors.findWindow(
+            entityManager, Post.class, spec, PageRequest.of(0, 1, sort));
+    final Specification<Post> next =
+        SpecificationBuilder.<Post>builder().after(window.next(), sort).build();
+
+    assertThat(postRepository.findAll(next, sort))
+        .extracting(Post::getId)
+        .hasSize(2)
+        .allSatisfy(id -> assertThat(id).isLessThan(window.content().getFirst().getId()));
+  }
+
+  @Test
+  void findWindow_getEmptyWithoutQuery_byUnsatisfiableSpecification() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .in(Post_.WORD_COUNT, List.<Integer>of(), InSpecification.Builder::emptyMatchesNone)
+            .build();
+
+    SqlStatements.clear();
+    final KeysetWindow<Post> window =
+        SpecificationExecutors.findWindow(
+            entityManager, Post.class, spec, PageRequest.of(0, 10, BY_WORD_COUNT_DESC));
+
+    assertThat(window.content()).isEmpty();
+    assertThat(window.hasNext()).isFalse();
+    assertThat(SqlStatements.all()).isEmpty();
+  }
+
+  @Test
+  void findWindow_throwException_byOffsetOrUnpaged() {
+    final Specification<Post> spec = SpecificationBuilder.<Post>builder().build();
+    final PageRequest second = PageRequest.of(1, 2, BY_WORD_COUNT_DESC);
+
+    assertThatThrownBy(
+            () -> SpecificationExecutors.findWindow(entityManager, Post.class, spec, second))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () ->
+                SpecificationExecutors.findWindow(
+                    entityManager, Post.class, spec, Pageable.unpaged()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void of_getCursorWithTieBreaker_byMetamodel() {
+    final Post post = postRepository.findAll(BY_WORD_COUNT_DESC).getFirst();
+
+    final KeysetCursor cursor =
+        KeysetCursor.of(post, BY_WORD_COUNT_DESC, entityManager.getMetamodel());
+
+    assertThat(cursor.get(Post_.WORD_COUNT)).isEqualTo(post.getWordCount());
+    assertThat(cursor.get(Post_.ID)).isEqualTo(post.getId());
+  }
+
+  @Test
+  void after_getResult_byMixedDirectionsAndJoin() {
+    final String username = DbUtils.joinPath(Post_.AUTHOR, User_.USERNAME);
+    final Sort sort = Sort.by(Sort.Order.asc(username), Sort.Order.desc(Post_.WORD_COUNT));
+    final KeysetCursor cursor =
+        KeysetCursor.of(
+            Map.of(
+                username,
+                TestConstants.USER_1_USERNAME,
+                Post_.WORD_COUNT,
+                TestConstants.WORD_COUNT_POST_2_USER_1,
+                Post_.ID,
+                Integer.MAX_VALUE));
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder().after(cursor, sort).build();
+
+    final List<Post> entities = postRepository.findAll(spec, sort);
+
+    assertThat(entities)
+        .extracting(Post::getWordCount)
+        .containsExactly(
+            TestConstants.WORD_COUNT_POST_1_USER_1, TestConstants.WORD_COUNT_POST_1_USER_2);
+  }
+
+  @Test
+  void before_getResult_byCursor() {
+    final KeysetCursor cursor =
+        KeysetCursor.of(
+            Map.of(
+                Post_.WORD_COUNT,
+                TestConstants.WORD_COUNT_POST_2_USER_1,
+                Post_.ID,
+                0));
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder().before(cursor, BY_WORD_COUNT_DESC).build();
+
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities)
+        .extracting(Post::getWordCount)
+        .containsExactly(TestConstants.WORD_COUNT_POST_1_USER_2);
+  }
+
+  @Test
+  void after_getAll_byNullCursor() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder().after(null, BY_WORD_COUNT_DESC).build();
+
+    final List<Post> entities = postRepository.findAll(spec);
+
+    assertThat(entities).hasSize(TestData.POSTS.size());
+  }
+
+  @Test
+  void after_throwException_byCursorWithoutSortKey() {
+    final KeysetCursor cursor = KeysetCursor.of(Map.of(Post_.ID, 1));
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder().after(cursor, BY_WORD_COUNT_DESC).build();
+
+    assertThatThrownBy(() -> toCriteriaQuery(Post.class, spec))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cursor has no value of [wordCount]");
+  }
+}
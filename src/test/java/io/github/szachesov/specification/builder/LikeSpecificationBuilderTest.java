@@ -28,6 +28,7 @@ import io.github.szachesov.specification.builder.sample.entity.Post_;
 import io.github.szachesov.specification.builder.sample.entity.User;
 import io.github.szachesov.specification.builder.sample.entity.User_;
 import io.github.szachesov.specification.builder.testutils.DbUtils;
+import io.github.szachesov.specification.builder.testutils.SqlStatements;
 import io.github.szachesov.specification.builder.testutils.TestConstants;
 import io.github.szachesov.specification.builder.testutils.TestData;
 import java.util.List;
@@ -153,4 +154,108 @@ class LikeSpecificationBuilderTest extends SpecificationBuilderTest {
         .extracting(User::getUsername)
         .contains(value);
   }
+
+  @Test
+  void like_getResult_byPrefixRange() {
+    final String value = TestConstants.USER_NAME_GROUP.substring(0, 3);
+    final Specification<Group> spec =
+        SpecificationBuilder.<Group>builder()
+            .like(Group_.NAME, value, b -> b.wildcard(Wildcard.ENDING).noIgnoreCase().prefixRange())
+            .build();
+
+    SqlStatements.clear();
+    final List<Group> entities = groupRepository.findAll(spec);
+
+    assertThat(entities)
+        .isNotEmpty()
+        .extracting(Group::getName)
+        .allSatisfy(n -> assertThat(n).startsWith(value));
+    assertThat(SqlStatements.last()).doesNotContain(" like ").contains(">=");
+  }
+
+  @Test
+  void like_getResult_byPrefixRangeWithRawPattern() {
+    final String value = TestConstants.USER_NAME_GROUP.substring(0, 2) + "_";
+    final Specification<Group> spec =
+        SpecificationBuilder.<Group>builder()
+            .like(Group_.NAME, value, b -> b.wildcard(Wildcard.ENDING).prefixRange().rawPattern())
+            .build();
+
+    SqlStatements.clear();
+    final List<Group> entities = groupRepository.findAll(spec);
+
+    assertThat(entities).extracting(Group::getName).contains(TestConstants.USER_NAME_GROUP);
+    assertThat(SqlStatements.last()).contains(" like ");
+  }
+
+  @Test
+  void like_notFound_byEscapedWildcards() {
+    final Specification<Group> spec =
+        SpecificationBuilder.<Group>builder()
+            .like(Group_.NAME, "%_\\", b -> b.wildcard(Wildcard.MULTIPLE))
+            .build();
+
+    SqlStatements.clear();
+    final List<Group> entities = groupRepository.findAll(spec);
+
+    assertThat(entities).isEmpty();
+    assertThat(SqlStatements.last()).contains(" escape ");
+  }
+
+  @Test
+  void like_getAll_byRawPattern() {
+    final Specification<Group> spec =
+        SpecificationBuilder.<Group>builder()
+            .like(Group_.NAME, "%_%", LikeSpecification.Builder::rawPattern)
+            .build();
+
+    final List<Group> entities = groupRepository.findAll(spec);
+
+    assertThat(entities).hasSize(TestData.GROUPS.size());
+  }
+
+  @Test
+  void nextPrefix_getUpperBound_byEdgeCases() {
+    final String max = Character.toString(Character.MAX_CODE_POINT);
+
+    assertThat(LikeSpecification.nextPrefix("abc")).isEqualTo("abd");
+    assertThat(LikeSpecification.nextPrefix("a\uD7FF")).isEqualTo("a\uE000");
+    assertThat(LikeSpecification.nextPrefix("a" + max + max)).isEqualTo("b");
+    assertThat(LikeSpecification.nextPrefix(max)).isNull();
+    assertThat(LikeSpecification.nextPrefix("")).isNull();
+  }
+
+  @Test
+  void like_getResult_byLowerCaseFolding() {
+    final String value = TestConstants.USER_NAME_GROUP.toLowerCase(Locale.ROOT);
+    final Specification<Group> spec =
+        SpecificationBuilder.<Group>builder()
+            .caseFolding(CaseFolding.LOWER)
+            .like(Group_.NAME, value)
+            .build();
+
+    SqlStatements.clear();
+    final List<Group> entities = groupRepository.findAll(spec);
+
+    assertThat(entities).extracting(Group::getName).containsOnly(TestConstants.USER_NAME_GROUP);
+    assertThat(SqlStatements.last()).contains("lower(");
+  }
+
+  @Test
+  void like_getResult_byIlikeWithPrefixRange() {
+    final String value = TestConstants.USER_NAME_GROUP.substring(0, 3).toLowerCase(Locale.ROOT);
+    final Specification<Group> spec =
+        SpecificationBuilder.<Group>builder()
+            .like(
+                Group_.NAME,
+                value,
+                b -> b.caseFolding(CaseFolding.ILIKE).wildcard(Wildcard.ENDING).prefixRange())
+            .build();
+
+    SqlStatements.clear();
+    final List<Group> entities = groupRepository.findAll(spec);
+
+    assertThat(entities).extracting(Group::getName).containsOnly(TestConstants.USER_NAME_GROUP);
+    assertThat(SqlStatements.last()).contains(" ilike ");
+  }
 }
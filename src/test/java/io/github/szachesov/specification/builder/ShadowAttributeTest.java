@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.szachesov.specification.builder.sample.entity.Tag;
+import io.github.szachesov.specification.builder.sample.entity.Tag_;
+import io.github.szachesov.specification.builder.testutils.H2Database;
+import io.github.szachesov.specification.builder.testutils.SqlStatements;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import io.github.szachesov.specification.misconfigured.Misconfigured;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.metamodel.ManagedType;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+class ShadowAttributeTest extends SpecificationBuilderTest {
+
+  @Test
+  void like_getResultByShadow_byAccentedValue() {
+    final Specification<Tag> spec =
+        SpecificationBuilder.<Tag>builder()
+            .like(Tag_.NAME, "TÉC", b -> b.wildcard(Wildcard.ENDING))
+            .build();
+
+    SqlStatements.clear();
+    final List<Tag> entities = tagRepository.findAll(spec);
+
+    assertThat(entities).extracting(Tag::getName).containsOnly(TestConstants.TECH_NAME_TAG);
+    assertThat(where(SqlStatements.last())).contains("name_norm").doesNotContain("upper(");
+  }
+
+  @Test
+  void equal_getResultByShadow_byAccentedValue() {
+    final Specification<Tag> spec =
+        SpecificationBuilder.<Tag>builder().equal(Tag_.NAME, "Téch").build();
+
+    SqlStatements.clear();
+    final List<Tag> entities = tagRepository.findAll(spec);
+
+    assertThat(entities).extracting(Tag::getName).containsOnly(TestConstants.TECH_NAME_TAG);
+    assertThat(where(SqlStatements.last())).contains("name_norm");
+  }
+
+  @Test
+  void equal_getResultByShadow_byEqualsOfDifferentCase() {
+    final Specification<Tag> spec =
+        SpecificationBuilder.<Tag>builder()
+            .equal(Tag_.NAME, TestConstants.TECH_NAME_TAG)
+            .equal(Tag_.NAME, "tech")
+            .build();
+
+    SqlStatements.clear();
+    final List<Tag> entities = tagRepository.findAll(spec);
+
+    assertThat(entities).extracting(Tag::getName).containsOnly(TestConstants.TECH_NAME_TAG);
+    assertThat(SqlStatements.all()).isNotEmpty();
+  }
+
+  @Test
+  void equal_getResultByShadow_byInAndEqualOfDifferentCase() {
+    final Specification<Tag> spec =
+        SpecificationBuilder.<Tag>builder()
+            .in(Tag_.NAME, List.of(TestConstants.TECH_NAME_TAG, TestConstants.AI_NAME_TAG))
+            .equal(Tag_.NAME, "tech")
+            .build();
+
+    SqlStatements.clear();
+    final List<Tag> entities = tagRepository.findAll(spec);
+
+    assertThat(entities).extracting(Tag::getName).containsOnly(TestConstants.TECH_NAME_TAG);
+    assertThat(SqlStatements.all()).isNotEmpty();
+  }
+
+  @Test
+  void in_getExactMatch_bySingleValueOfShadowedAttribute() {
+    final Specification<Tag> spec =
+        SpecificationBuilder.<Tag>builder().in(Tag_.NAME, List.of("tech")).build();
+
+    SqlStatements.clear();
+    final List<Tag> entities = tagRepository.findAll(spec);
+
+    assertThat(entities).isEmpty();
+    assertThat(where(SqlStatements.last())).doesNotContain("name_norm");
+  }
+
+  @Test
+  void notEqual_getResultByShadow_byAccentedValue() {
+    final Specification<Tag> spec =
+        SpecificationBuilder.<Tag>builder().notEqual(Tag_.NAME, "Téch").build();
+
+    final List<Tag> entities = tagRepository.findAll(spec);
+
+    assertThat(entities)
+        .isNotEmpty()
+        .extracting(Tag::getName)
+        .doesNotContain(TestConstants.TECH_NAME_TAG);
+  }
+
+  @Test
+  void in_getResultByNaturalAttribute_byNotShadowedCondition() {
+    final Specification<Tag> spec =
+        SpecificationBuilder.<Tag>builder()
+            .in(Tag_.NAME, List.of(TestConstants.TECH_NAME_TAG))
+            .build();
+
+    SqlStatements.clear();
+    final List<Tag> entities = tagRepository.findAll(spec);
+
+    assertThat(entities).extracting(Tag::getName).containsOnly(TestConstants.TECH_NAME_TAG);
+    assertThat(where(SqlStatements.last())).doesNotContain("name_norm");
+  }
+
+  @Test
+  void like_getResultByReversedShadow_byWildcardLeading() {
+    final Specification<Tag> spec =
+        SpecificationBuilder.<Tag>builder()
+            .like(Tag_.NAME, "ÉCH", b -> b.wildcard(Wildcard.LEADING))
+            .build();
+
+    SqlStatements.clear();
+    final List<Tag> entities = tagRepository.findAll(spec);
+
+    assertThat(entities).extracting(Tag::getName).containsOnly(TestConstants.TECH_NAME_TAG);
+    assertThat(where(SqlStatements.last())).contains("name_reversed").contains(" like ");
+  }
+
+  @Test
+  void like_getResultByReversedShadow_byWildcardLeadingAndPrefixRange() {
+    final Specification<Tag> spec =
+        SpecificationBuilder.<Tag>builder()
+            .like(Tag_.NAME, "ech", b -> b.wildcard(Wildcard.LEADING).prefixRange())
+            .build();
+
+    SqlStatements.clear();
+    final List<Tag> entities = tagRepository.findAll(spec);
+
+    assertThat(entities).extracting(Tag::getName).containsOnly(TestConstants.TECH_NAME_TAG);
+    assertThat(where(SqlStatements.last())).contains("name_reversed").doesNotContain(" like ");
+  }
+
+  @Test
+  void like_getResultByShadow_byWildcardLeadingAndRawPattern() {
+    final Specification<Tag> spec =
+        SpecificationBuilder.<Tag>builder()
+            .like(Tag_.NAME, "e_h", b -> b.wildcard(Wildcard.LEADING).rawPattern())
+            .build();
+
+    SqlStatements.clear();
+    final List<Tag> entities = tagRepository.findAll(spec);
+
+    assertThat(entities).extracting(Tag::getName).containsOnly(TestConstants.TECH_NAME_TAG);
+    assertThat(where(SqlStatements.last())).contains("name_norm").doesNotContain("name_reversed");
+  }
+
+  @Test
+  void equal_getNullShadowPredicate_byNotStringValue() throws NoSuchFieldException {
+    final ShadowAttribute shadow =
+        Tag.class.getDeclaredField(Tag_.NAME).getAnnotationsByType(ShadowAttribute.class)[0];
+    final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    final Path<String> name = builder.createQuery(Tag.class).from(Tag.class).get(Tag_.NAME);
+    final EqualsSpecification<Tag> spec =
+        new EqualsSpecification.Builder<Tag>(ColumnPath.of(Tag_.NAME), 1).build();
+
+    assertThat(spec.toShadowPredicate(name, shadow, builder)).isNull();
+  }
+
+  @Test
+  void get_throwException_byMissingShadowAttribute() {
+    try (EntityManagerFactory factory = H2Database.create(Misconfigured.class)) {
+      final ManagedType<Misconfigured> type =
+          factory.getMetamodel().managedType(Misconfigured.class);
+
+      assertThatThrownBy(() -> AttributeCache.get(type, "name"))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("[missing]");
+    }
+  }
+
+  private static String where(final String sql) {
+    return sql.substring(sql.indexOf(" where "));
+  }
+}
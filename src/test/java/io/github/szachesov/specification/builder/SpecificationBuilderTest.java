@@ -22,11 +22,17 @@ import io.github.szachesov.specification.builder.sample.repository.PostRepositor
 import io.github.szachesov.specification.builder.sample.repository.TagRepository;
 import io.github.szachesov.specification.builder.sample.repository.UserRepository;
 import io.github.szachesov.specification.builder.testutils.TestData;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,6 +45,8 @@ abstract class SpecificationBuilderTest {
   @Autowired protected GroupRepository groupRepository;
   @Autowired protected UserRepository userRepository;
   @Autowired protected PostRepository postRepository;
+  @Autowired protected TagRepository tagRepository;
+  @Autowired protected EntityManager entityManager;
 
   @BeforeAll
   static void init(
@@ -52,4 +60,28 @@ abstract class SpecificationBuilderTest {
     userRepository.saveAll(TestData.USERS);
     postRepository.saveAll(TestData.POSTS);
   }
+
+  protected <T> CriteriaQuery<T> toCriteriaQuery(
+      final Class<T> domainClass, final Specification<T> spec) {
+    final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<T> query = builder.createQuery(domainClass);
+    final Root<T> root = query.from(domainClass);
+    final Predicate predicate = spec.toPredicate(root, query, builder);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    return query;
+  }
+
+  protected <T> CriteriaQuery<Long> toCountQuery(
+      final Class<T> domainClass, final Specification<T> spec) {
+    final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<Long> query = builder.createQuery(Long.class);
+    final Root<T> root = query.from(domainClass);
+    final Predicate predicate = spec.toPredicate(root, query, builder);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    return query.select(query.isDistinct() ? builder.countDistinct(root) : builder.count(root));
+  }
 }
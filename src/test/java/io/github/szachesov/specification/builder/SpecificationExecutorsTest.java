@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.SqlStatements;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import io.github.szachesov.specification.builder.testutils.TestData;
+import java.util.List;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+class SpecificationExecutorsTest extends SpecificationBuilderTest {
+
+  @Test
+  void findAll_getEmptyWithoutQuery_byContradictingEqualities() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .equal(User_.USERNAME, TestConstants.ADMIN_USERNAME)
+            .equal(User_.USERNAME, TestConstants.USER_1_USERNAME)
+            .build();
+
+    SqlStatements.clear();
+    final List<User> entities = SpecificationExecutors.findAll(userRepository, spec);
+
+    assertThat(entities).isEmpty();
+    assertThat(SqlStatements.all()).isEmpty();
+    assertThat(userRepository.findAll(spec)).isEmpty();
+  }
+
+  @Test
+  void findAll_getEmptyPageWithoutQuery_byEmptyInMatchingNone() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .emptyInMatchesNone()
+            .in(Post_.RATING, List.of())
+            .build();
+
+    SqlStatements.clear();
+    final Page<Post> page =
+        SpecificationExecutors.findAll(postRepository, spec, PageRequest.of(0, 10));
+
+    assertThat(page).isEmpty();
+    assertThat(page.getTotalElements()).isZero();
+    assertThat(SqlStatements.all()).isEmpty();
+  }
+
+  @Test
+  void count_getZeroWithoutQuery_byEmptyRange() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .between(
+                Post_.WORD_COUNT,
+                TestConstants.WORD_COUNT_POST_1_USER_2,
+                TestConstants.WORD_COUNT_POST_1_USER_1)
+            .build();
+
+    SqlStatements.clear();
+
+    assertThat(SpecificationExecutors.count(postRepository, spec)).isZero();
+    assertThat(SqlStatements.all()).isEmpty();
+  }
+
+  @Test
+  void findAll_getResult_bySatisfiableSpecification() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder().isNotNull(Post_.WORD_COUNT).build();
+
+    assertThat(SpecificationExecutors.findAll(postRepository, spec))
+        .hasSize(TestData.POSTS.size());
+    assertThat(SpecificationExecutors.findAll(postRepository, spec, PageRequest.of(0, 1)))
+        .hasSize(1);
+    assertThat(SpecificationExecutors.count(postRepository, spec))
+        .isEqualTo(TestData.POSTS.size());
+  }
+
+  @Test
+  void findAllByIds_getOrderedPageWithFetch_byFetchToMany() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .isNull(List.of(User_.POSTS, Post_.TITLE), true, b -> b.not().fetch())
+            .build();
+    final Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, User_.USERNAME));
+
+    SqlStatements.clear();
+    final Page<User> first =
+        SpecificationExecutors.findAllByIds(entityManager, User.class, spec, pageable);
+
+    assertThat(SqlStatements.all()).hasSize(3);
+    assertThat(SqlStatements.all().getFirst()).containsIgnoringCase("fetch first");
+    assertThat(first.getTotalElements()).isEqualTo(2);
+    assertThat(first.getContent())
+        .singleElement()
+        .satisfies(user -> assertThat(user.getUsername()).isEqualTo(TestConstants.USER_2_USERNAME))
+        .satisfies(user -> assertThat(Hibernate.isInitialized(user.getPosts())).isTrue());
+
+    final Page<User> second =
+        SpecificationExecutors.findAllByIds(entityManager, User.class, spec, pageable.next());
+
+    assertThat(second.getContent())
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.USER_1_USERNAME);
+  }
+
+  @Test
+  void findAllByIds_getUniquePage_byNeverWithToManyJoin() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .distinct(DistinctStrategy.NEVER)
+            .isNotNull(List.of(User_.POSTS, Post_.TITLE))
+            .build();
+
+    final Page<User> page =
+        SpecificationExecutors.findAllByIds(
+            entityManager, User.class, spec, PageRequest.of(0, 2, Sort.by(User_.USERNAME)));
+
+    assertThat(page.getTotalElements()).isEqualTo(2);
+    assertThat(page.getContent())
+        .extracting(User::getUsername)
+        .containsExactly(TestConstants.USER_1_USERNAME, TestConstants.USER_2_USERNAME);
+  }
+
+  @Test
+  void findAllByIds_getAll_byUnpaged() {
+    final Page<User> page =
+        SpecificationExecutors.findAllByIds(
+            entityManager, User.class, Specification.unrestricted(), Pageable.unpaged());
+
+    assertThat(page.getContent()).hasSize(TestData.USERS.size());
+    assertThat(page.getTotalElements()).isEqualTo(TestData.USERS.size());
+  }
+
+  @Test
+  void findAllByIds_getEmptyPage_byNoMatch() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder().equal(User_.USERNAME, "missing").build();
+
+    final Page<User> page =
+        SpecificationExecutors.findAllByIds(entityManager, User.class, spec, PageRequest.of(0, 1));
+
+    assertThat(page).isEmpty();
+    assertThat(page.getTotalElements()).isZero();
+  }
+
+  @Test
+  void findAllByIds_getEmptyPageWithoutQuery_byUnsatisfiableSpecification() {
+    final Specification<User> spec =
+        SpecificationBuilder.<User>builder()
+            .equal(User_.USERNAME, TestConstants.ADMIN_USERNAME)
+            .equal(User_.USERNAME, TestConstants.USER_1_USERNAME)
+            .build();
+
+    SqlStatements.clear();
+    final Page<User> page =
+        SpecificationExecutors.findAllByIds(entityManager, User.class, spec, PageRequest.of(0, 1));
+
+    assertThat(page).isEmpty();
+    assertThat(SqlStatements.all()).isEmpty();
+  }
+
+  @Test
+  void isUnsatisfiable_propagate_byInnerSpecifications() {
+    final Specification<User> none =
+        SpecificationBuilder.<User>builder()
+            .equal(User_.USERNAME, TestConstants.ADMIN_USERNAME)
+            .equal(User_.USERNAME, TestConstants.USER_1_USERNAME)
+            .build();
+    final Specification<User> any =
+        SpecificationBuilder.<User>builder().isNotNull(User_.USERNAME).build();
+
+    assertThat(SpecificationExecutors.isUnsatisfiable(none)).isTrue();
+    assertThat(
+            SpecificationExecutors.isUnsatisfiable(
+                SpecificationBuilder.<User>builder().andInner(any).andInner(none).build()))
+        .isTrue();
+    assertThat(
+            SpecificationExecutors.isUnsatisfiable(
+                SpecificationBuilder.<User>builder().andInner(none).orInner(any).build()))
+        .isFalse();
+    assertThat(SpecificationExecutors.isUnsatisfiable(Specification.unrestricted())).isFalse();
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SpecificationNormalizerTest {
+
+  private static final ColumnPath WORD_COUNT = ColumnPath.of(Post_.WORD_COUNT);
+
+  @Test
+  void normalize_removeDuplicates_byEqualSpecifications() {
+    final CompositeSpecification<Post, ?> spec = isNotNull();
+
+    final List<CompositeSpecification<Post, ?>> normalized =
+        SpecificationNormalizer.normalize(List.of(spec, isNotNull()));
+
+    assertThat(normalized).containsExactly(spec);
+  }
+
+  @Test
+  void normalize_getEqual_byInAndEqual() {
+    final List<CompositeSpecification<Post, ?>> normalized =
+        SpecificationNormalizer.normalize(List.of(in(1, 2, 3), equal(2)));
+
+    assertThat(normalized).containsExactly(equal(2));
+  }
+
+  @Test
+  void normalize_getEqual_bySingleValueIn() {
+    final List<CompositeSpecification<Post, ?>> normalized =
+        SpecificationNormalizer.normalize(List.of(in(1)));
+
+    assertThat(normalized).containsExactly(equal(1));
+  }
+
+  @Test
+  void normalize_getIn_byInAndRange() {
+    final List<CompositeSpecification<Post, ?>> normalized =
+        SpecificationNormalizer.normalize(
+            List.of(in(1, 2, 3, 4), range(2, null, Bound.INCLUSIVE, Bound.INCLUSIVE).getFirst()));
+
+    assertThat(normalized).containsExactly(in(2, 3, 4));
+  }
+
+  @Test
+  void normalize_getBetween_byInclusiveRanges() {
+    final List<CompositeSpecification<Post, ?>> specs = new ArrayList<>();
+    specs.addAll(range(10, 100, Bound.INCLUSIVE, Bound.INCLUSIVE));
+    specs.addAll(range(20, 50, Bound.INCLUSIVE, Bound.INCLUSIVE));
+
+    final List<CompositeSpecification<Post, ?>> normalized =
+        SpecificationNormalizer.normalize(specs);
+
+    assertThat(normalized)
+        .singleElement()
+        .isInstanceOfSatisfying(
+            BetweenSpecification.class,
+            s -> assertThat(s.range).isEqualTo(new ComparisonSpecification.Range<>(20, 50)));
+  }
+
+  @Test
+  void normalize_getInequalities_byExclusiveBound() {
+    final List<CompositeSpecification<Post, ?>> specs = new ArrayList<>();
+    specs.addAll(range(10, 100, Bound.INCLUSIVE, Bound.INCLUSIVE));
+    specs.addAll(range(20, null, Bound.EXCLUSIVE, Bound.INCLUSIVE));
+
+    final List<CompositeSpecification<Post, ?>> normalized =
+        SpecificationNormalizer.normalize(specs);
+
+    assertThat(normalized)
+        .hasSize(2)
+        .containsExactly(
+            InequalitySpecification.gt(comparison(20, 100)),
+            InequalitySpecification.lte(comparison(20, 100)));
+  }
+
+  @Test
+  void normalize_getEqual_byPointRange() {
+    final List<CompositeSpecification<Post, ?>> normalized =
+        SpecificationNormalizer.normalize(range(5, 5, Bound.INCLUSIVE, Bound.INCLUSIVE));
+
+    assertThat(normalized).containsExactly(equal(5));
+  }
+
+  @Test
+  void normalize_keepOriginals_byContradiction() {
+    final List<CompositeSpecification<Post, ?>> specs = List.of(equal(1), equal(2));
+
+    assertThat(SpecificationNormalizer.normalize(specs)).isEqualTo(specs);
+  }
+
+  @Test
+  void normalize_keepOriginals_byIntegerAndLong() {
+    final List<CompositeSpecification<Post, ?>> specs = List.of(equal(1), in(1L));
+
+    assertThat(SpecificationNormalizer.normalize(specs)).isEqualTo(specs);
+    assertThat(SpecificationNormalizer.isUnsatisfiable(specs)).isFalse();
+  }
+
+  @Test
+  void normalize_getEqual_byBigDecimalOfDifferentScale() {
+    final BigDecimal value = new BigDecimal("1.00");
+    final List<CompositeSpecification<Post, ?>> specs =
+        List.of(in(value, BigDecimal.TWO), equal(new BigDecimal("1.0")));
+
+    assertThat(SpecificationNormalizer.normalize(specs)).containsExactly(equal(value));
+    assertThat(SpecificationNormalizer.isUnsatisfiable(specs)).isFalse();
+  }
+
+  @Test
+  void normalize_keepOriginals_byOrConnection() {
+    final List<CompositeSpecification<Post, ?>> specs =
+        List.of(
+            equal(1),
+            new EqualsSpecification.Builder<Post>(WORD_COUNT, 1)
+                .connection(LogicalOperator.OR)
+                .build());
+
+    assertThat(SpecificationNormalizer.normalize(specs)).isSameAs(specs);
+  }
+
+  @Test
+  void normalize_deduplicateOnly_byExists() {
+    final List<CompositeSpecification<Post, ?>> specs =
+        List.of(
+            new InSpecification.Builder<Post, Object>(WORD_COUNT, List.of(1, 2)).exists().build(),
+            new EqualsSpecification.Builder<Post>(WORD_COUNT, 2).exists().build());
+
+    assertThat(SpecificationNormalizer.normalize(specs)).isEqualTo(specs);
+  }
+
+  private static CompositeSpecification<Post, ?> isNotNull() {
+    return new NullSpecification.Builder<Post, Object>(WORD_COUNT).not().build();
+  }
+
+  private static CompositeSpecification<Post, ?> equal(final Object value) {
+    return new EqualsSpecification.Builder<Post>(WORD_COUNT, value).build();
+  }
+
+  private static CompositeSpecification<Post, ?> in(final Object... values) {
+    return new InSpecification.Builder<Post, Object>(WORD_COUNT, List.of(values)).build();
+  }
+
+  private static ComparisonSpecification.Builder<Post, Integer> comparison(
+      final Integer min, final Integer max) {
+    return new ComparisonSpecification.Builder<>(WORD_COUNT, min, max);
+  }
+
+  private static List<ComparisonSpecification<Post, Integer>> range(
+      final Integer min, final Integer max, final Bound minBound, final Bound maxBound) {
+    return comparison(min, max).minBound(minBound).maxBound(maxBound).build();
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.szachesov.specification.builder.sample.dto.PostTitle;
+import io.github.szachesov.specification.builder.sample.entity.Post;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.DbUtils;
+import io.github.szachesov.specification.builder.testutils.SqlStatements;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import jakarta.persistence.Tuple;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+class SpecificationProjectorTest extends SpecificationBuilderTest {
+
+  @Test
+  void fetch_getRecords_bySelectedPaths() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .min(Post_.WORD_COUNT, TestConstants.WORD_COUNT_POST_2_USER_1)
+            .build();
+
+    SqlStatements.clear();
+    final List<PostTitle> titles =
+        new SpecificationProjector(entityManager)
+            .from(Post.class)
+            .where(spec)
+            .select(Post_.TITLE, Post_.WORD_COUNT)
+            .orderBy(Sort.by(Post_.WORD_COUNT))
+            .fetch(PostTitle.class);
+
+    assertThat(titles)
+        .containsExactly(
+            new PostTitle(
+                TestConstants.TITLE_POST_2_USER_1, TestConstants.WORD_COUNT_POST_2_USER_1),
+            new PostTitle(
+                TestConstants.TITLE_POST_1_USER_2, TestConstants.WORD_COUNT_POST_1_USER_2));
+    assertThat(SqlStatements.last()).doesNotContain("content").doesNotContain("rating");
+  }
+
+  @Test
+  void fetchTuples_getValues_byJoinPathAndLimit() {
+    final String username = DbUtils.joinPath(Post_.AUTHOR, User_.USERNAME);
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(username, TestConstants.USER_1_USERNAME)
+            .build();
+
+    final List<Tuple> tuples =
+        new SpecificationProjector(entityManager)
+            .from(Post.class)
+            .where(spec)
+            .select(List.of(username, Post_.WORD_COUNT))
+            .orderBy(Sort.by(Sort.Direction.DESC, Post_.WORD_COUNT))
+            .limit(1)
+            .fetchTuples();
+
+    assertThat(tuples).hasSize(1);
+    assertThat(tuples.getFirst().get(username)).isEqualTo(TestConstants.USER_1_USERNAME);
+    assertThat(tuples.getFirst().get(Post_.WORD_COUNT))
+        .isEqualTo(TestConstants.WORD_COUNT_POST_2_USER_1);
+  }
+
+  @Test
+  void fetchTuples_getRowPerEntity_byEqualValuesAndCollectionCondition() {
+    final String username = DbUtils.joinPath(Post_.AUTHOR, User_.USERNAME);
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .in(Post_.TAGS, List.of(TestConstants.AI_NAME_TAG, TestConstants.TECH_NAME_TAG))
+            .build();
+
+    SqlStatements.clear();
+    final List<Tuple> tuples =
+        new SpecificationProjector(entityManager)
+            .from(Post.class)
+            .where(spec)
+            .select(username)
+            .orderBy(Sort.by(Post_.WORD_COUNT))
+            .fetchTuples();
+
+    assertThat(tuples)
+        .extracting(tuple -> tuple.get(username))
+        .containsExactly(
+            TestConstants.USER_1_USERNAME,
+            TestConstants.USER_1_USERNAME,
+            TestConstants.USER_2_USERNAME);
+    assertThat(SqlStatements.last()).contains(" group by ").doesNotContain(" distinct ");
+  }
+
+  @Test
+  void fetchTuples_getAll_byUnrestricted() {
+    final List<Tuple> tuples =
+        new SpecificationProjector(entityManager).from(Post.class).select(Post_.ID).fetchTuples();
+
+    assertThat(tuples).hasSize(3);
+  }
+
+  @Test
+  void fetch_getEmptyWithoutQuery_byUnsatisfiableSpecification() {
+    final Specification<Post> spec =
+        SpecificationBuilder.<Post>builder()
+            .equal(Post_.WORD_COUNT, TestConstants.WORD_COUNT_POST_1_USER_1)
+            .equal(Post_.WORD_COUNT, TestConstants.WORD_COUNT_POST_1_USER_2)
+            .build();
+    final SpecificationProjector.Projection<Post> projection =
+        new SpecificationProjector(entityManager)
+            .from(Post.class)
+            .where(spec)
+            .select(Post_.TITLE);
+
+    SqlStatements.clear();
+    assertThat(projection.fetch(PostTitle.class)).isEmpty();
+    assertThat(projection.fetchTuples()).isEmpty();
+    assertThat(SqlStatements.all()).isEmpty();
+  }
+
+  @Test
+  void fetch_throwException_byNoPaths() {
+    final SpecificationProjector.Projection<Post> projection =
+        new SpecificationProjector(entityManager).from(Post.class);
+
+    assertThatThrownBy(() -> projection.fetch(PostTitle.class))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void limit_throwException_byNotPositive() {
+    final SpecificationProjector.Projection<Post> projection =
+        new SpecificationProjector(entityManager).from(Post.class);
+
+    assertThatThrownBy(() -> projection.limit(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.szachesov.specification.builder.autoconfigure.SpecificationValidationAutoConfiguration;
+import io.github.szachesov.specification.builder.sample.entity.Group_;
+import io.github.szachesov.specification.builder.sample.entity.Post_;
+import io.github.szachesov.specification.builder.sample.entity.User;
+import io.github.szachesov.specification.builder.sample.entity.User_;
+import io.github.szachesov.specification.builder.testutils.DbUtils;
+import io.github.szachesov.specification.builder.testutils.TestConstants;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class SpecificationValidatorTest extends SpecificationBuilderTest {
+
+  private static final SpecificationTemplate<User> VALID_TEMPLATE =
+      new SpecificationTemplate<>(
+          User.class,
+          SpecificationBuilder.<User>builder()
+              .equal(List.of(User_.GROUPS, Group_.NAME), TestConstants.USER_NAME_GROUP)
+              .isNotNull(DbUtils.joinPath(User_.POSTS, Post_.TITLE)));
+
+  private static final SpecificationTemplate<User> INVALID_TEMPLATE =
+      new SpecificationTemplate<>(
+          User.class, SpecificationBuilder.<User>builder().equal("groupz.name", "Admin"));
+
+  @Test
+  void validate_passes_byExistingColumns() {
+    final SpecificationValidator validator = validator();
+    validator.warmUp();
+
+    assertThatCode(() -> validator.validate(VALID_TEMPLATE)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void validate_throws_byMisspelledColumn() {
+    assertThatThrownBy(() -> validator().validate(INVALID_TEMPLATE))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("groupz");
+  }
+
+  @Test
+  void validate_throws_byColumnAfterBasicColumn() {
+    final SpecificationTemplate<User> template =
+        new SpecificationTemplate<>(
+            User.class, SpecificationBuilder.<User>builder().isNull("username.value"));
+
+    assertThatThrownBy(() -> validator().validate(template))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining(User_.USERNAME);
+  }
+
+  @Test
+  void translate_passes_byValidTemplate() {
+    assertThatCode(() -> validator().translate(VALID_TEMPLATE)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void autoConfiguration_startsContext_byValidTemplate() {
+    contextRunner()
+        .withBean(SpecificationTemplate.class, () -> VALID_TEMPLATE)
+        .run(context -> assertThat(context).hasNotFailed());
+  }
+
+  @Test
+  void autoConfiguration_failsContext_byInvalidTemplate() {
+    contextRunner()
+        .withBean(SpecificationTemplate.class, () -> INVALID_TEMPLATE)
+        .run(context -> assertThat(context).hasFailed());
+  }
+
+  private SpecificationValidator validator() {
+    return new SpecificationValidator(entityManager.getEntityManagerFactory());
+  }
+
+  private ApplicationContextRunner contextRunner() {
+    return new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(SpecificationValidationAutoConfiguration.class))
+        .withBean(
+            EntityManagerFactory.class,
+            entityManager::getEntityManagerFactory,
+            definition -> definition.setDestroyMethodName(""))
+        .withPropertyValues(
+            "specification.builder.validation.enabled=true",
+            "specification.builder.validation.translate=true");
+  }
+}
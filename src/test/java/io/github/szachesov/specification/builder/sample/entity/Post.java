@@ -59,6 +59,15 @@ public class Post extends BaseEntity {
   @Column(name = "word_count")
   private Integer wordCount;
 
+  @Column(
+      name = "title_vector",
+      insertable = false,
+      updatable = false,
+      columnDefinition =
+          "tsvector generated always as (to_tsvector('simple', coalesce(title, ''))) stored")
+  @ToString.Exclude
+  private String titleVector;
+
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "author_id")
   @ToString.Exclude
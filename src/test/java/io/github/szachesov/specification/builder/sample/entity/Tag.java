@@ -17,21 +17,42 @@
 
 package io.github.szachesov.specification.builder.sample.entity;
 
+import io.github.szachesov.specification.builder.ShadowAttribute;
+import io.github.szachesov.specification.builder.TextNormalizer;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @NoArgsConstructor
-@AllArgsConstructor
 @Setter
 @Getter
 @Entity
 @Table(name = "tags")
 public class Tag extends BaseEntity {
+  @ShadowAttribute("nameNorm")
+  @ShadowAttribute(value = "nameReversed", reversed = true)
   @Column(name = "name", nullable = false, unique = true)
   private String name;
+
+  @Column(name = "name_norm", nullable = false)
+  private String nameNorm;
+
+  @Column(name = "name_reversed", nullable = false)
+  private String nameReversed;
+
+  public Tag(final String name) {
+    this.name = name;
+  }
+
+  @PrePersist
+  @PreUpdate
+  void normalize() {
+    this.nameNorm = TextNormalizer.LOWER_UNACCENT.normalize(name);
+    this.nameReversed = new StringBuilder(nameNorm).reverse().toString();
+  }
 }
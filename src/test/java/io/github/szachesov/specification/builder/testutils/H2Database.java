@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026-present Sergei Zachesov and others.
+ * https://github.com/sergei-zachesov/spring-data-jpa-specification-builder
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.szachesov.specification.builder.testutils;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceConfiguration;
+import java.util.UUID;
+import lombok.experimental.UtilityClass;
+import org.hibernate.jpa.HibernatePersistenceProvider;
+
+/** In-memory H2 database for the rendering of dialects other than PostgreSQL. */
+@UtilityClass
+public class H2Database {
+
+  public static EntityManagerFactory create(final Class<?>... entities) {
+    final PersistenceConfiguration configuration =
+        new PersistenceConfiguration("h2")
+            .provider(HibernatePersistenceProvider.class.getName())
+            .property(
+                PersistenceConfiguration.JDBC_URL,
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1")
+            .property(PersistenceConfiguration.JDBC_USER, "sa")
+            .property(PersistenceConfiguration.SCHEMAGEN_DATABASE_ACTION, "create")
+            .property(
+                "hibernate.session_factory.statement_inspector", SqlStatements.class.getName());
+    for (final Class<?> entity : entities) {
+      configuration.managedClass(entity);
+    }
+    return configuration.createEntityManagerFactory();
+  }
+}